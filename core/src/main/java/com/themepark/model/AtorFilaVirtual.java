@@ -0,0 +1,165 @@
+package com.themepark.model;
+
+import com.themepark.model.datastructures.MpscQueue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+/**
+ * Dono único das operações de uma fila virtual. Os pedidos entram numa caixa
+ * de mensagens sem locks e são aplicados em lotes por uma única tarefa por vez
+ * no executor; o lock da fila é tomado uma vez por lote, e as operações do
+ * lote o readquirem sem contenção. A barreira de instantâneo do sistema é
+ * tomada antes do lock da fila, na mesma ordem das operações síncronas.
+ *
+ * Com um diário anexado, as operações do lote só anotam o seu registro numa
+ * {@link EsperaDiario}; depois de liberar os locks, o ator espera uma vez pelo
+ * último registro do lote e só então completa os futuros.
+ */
+final class AtorFilaVirtual {
+    // Máximo de pedidos por execução, para não monopolizar uma thread do executor
+    static final int TAMANHO_LOTE = 256;
+
+    private final SistemaParque sistema;
+    private final Atracao atracao;
+    private final Executor executor;
+    private final MpscQueue<Pedido<?>> caixaDeEntrada;
+    // Verdadeiro enquanto há uma tarefa de processamento agendada ou rodando
+    private final AtomicBoolean agendado;
+    // Pedidos do lote atual e a espera pelo diário deles; só a tarefa de processamento acessa
+    private final Pedido<?>[] lote;
+    private final EsperaDiario espera;
+
+    AtorFilaVirtual(SistemaParque sistema, Atracao atracao, Executor executor) {
+        this.sistema = sistema;
+        this.atracao = atracao;
+        this.executor = executor;
+        this.caixaDeEntrada = new MpscQueue<>();
+        this.agendado = new AtomicBoolean(false);
+        this.lote = new Pedido<?>[TAMANHO_LOTE];
+        this.espera = new EsperaDiario();
+    }
+
+    <R> CompletableFuture<R> enviar(Function<EsperaDiario, R> operacao) {
+        Pedido<R> pedido = new Pedido<>(operacao);
+        this.caixaDeEntrada.offer(pedido);
+        agendar();
+        return pedido.resultado;
+    }
+
+    private void agendar() {
+        if (this.agendado.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::processar);
+            } catch (RuntimeException e) {
+                this.agendado.set(false);
+                falharPendentes(e);
+            }
+        }
+    }
+
+    private void processar() {
+        int aplicados = 0;
+        Throwable falhaDiario = null;
+
+        try {
+            FilaVirtual fila = this.sistema.obterFilaVirtual(this.atracao);
+            Lock barreira = this.sistema.getBarreiraOperacoes();
+
+            barreira.lock();
+            try {
+                if (fila != null) {
+                    fila.getLock().lock();
+                }
+                try {
+                    while (aplicados < TAMANHO_LOTE) {
+                        Pedido<?> pedido = this.caixaDeEntrada.poll();
+                        if (pedido == null) {
+                            break;
+                        }
+                        this.lote[aplicados++] = pedido;
+                        pedido.aplicar(this.espera);
+                    }
+                } finally {
+                    if (fila != null) {
+                        fila.getLock().unlock();
+                    }
+                }
+            } finally {
+                barreira.unlock();
+            }
+
+            // Uma única espera pelo diário para o lote inteiro, já fora dos locks
+            this.espera.aguardar();
+        } catch (Throwable e) {
+            falhaDiario = e;
+        } finally {
+            // Os futuros são completados fora do lock: continuações encadeadas
+            // pelo chamador podem rodar nesta thread e acessar outras filas
+            for (int i = 0; i < aplicados; i++) {
+                this.lote[i].completar(falhaDiario);
+                this.lote[i] = null;
+            }
+
+            // Libera o agendamento e reagenda se chegou algo depois da última leitura
+            this.agendado.set(false);
+            if (!this.caixaDeEntrada.isEmpty()) {
+                agendar();
+            }
+        }
+    }
+
+    private void falharPendentes(Throwable causa) {
+        // Só é seguro consumir aqui se nenhuma outra tarefa assumiu a caixa
+        if (!this.agendado.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Pedido<?> pedido;
+            while ((pedido = this.caixaDeEntrada.poll()) != null) {
+                pedido.resultado.completeExceptionally(causa);
+            }
+        } finally {
+            this.agendado.set(false);
+        }
+    }
+
+    Atracao getAtracao() {
+        return atracao;
+    }
+
+    private static final class Pedido<R> {
+        private final Function<EsperaDiario, R> operacao;
+        private final CompletableFuture<R> resultado;
+        private R valor;
+        private Throwable erro;
+
+        private Pedido(Function<EsperaDiario, R> operacao) {
+            this.operacao = operacao;
+            this.resultado = new CompletableFuture<>();
+        }
+
+        // Qualquer falha, inclusive um Error, fica com o pedido: o lote segue e o agendamento é liberado
+        private void aplicar(EsperaDiario espera) {
+            try {
+                this.valor = this.operacao.apply(espera);
+            } catch (Throwable e) {
+                this.erro = e;
+            }
+        }
+
+        // falhaLote é a falha que impediu o lote de se tornar durável, se houve
+        private void completar(Throwable falhaLote) {
+            if (this.erro != null) {
+                this.resultado.completeExceptionally(this.erro);
+            } else if (falhaLote != null) {
+                this.resultado.completeExceptionally(falhaLote);
+            } else {
+                this.resultado.complete(this.valor);
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.themepark.model;
+
+import com.themepark.model.datastructures.LinkedList;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Codec binário compacto das classes do modelo, usado pelo diário e pelos
+ * instantâneos. Formato da versão {@link #VERSAO}:
+ * - CPF: long com os 11 dígitos; {@code -1} seguido do texto se o CPF tiver pontuação
+ * - datas: dias desde a época (int); instantes: milissegundos desde a época, em UTC (long)
+ * - horários: segundos do dia; contagens e ids: varint
+ * - enums: ordinal + 1 num byte (0 = nulo)
+ * - textos: tamanho em bytes (varint) seguido do UTF-8
+ * - atrações: id de um dicionário de nomes; o nome só vai junto na definição completa
+ *
+ * O dicionário é do codec: quem lê precisa ter visto as mesmas definições
+ * (ou carregado o dicionário com {@link #lerDicionario(ByteBuffer)}).
+ * A escrita é feita numa {@link Saida} reutilizável, sem alocar por campo.
+ */
+public final class CodecParque {
+    public static final int VERSAO = 1;
+
+    private static final long CPF_COMO_TEXTO = -1;
+
+    private final Map<String, Integer> idsPorNome;
+    // Guardada pelo monitor do codec; as leituras de ids (na escrita) vão direto ao mapa
+    private final List<String> nomesPorId;
+
+    public CodecParque() {
+        this.idsPorNome = new ConcurrentHashMap<>();
+        this.nomesPorId = new ArrayList<>();
+    }
+
+    // ========== DICIONÁRIO DE ATRAÇÕES ==========
+
+    // Id do nome, criado na primeira vez; um nome recadastrado reaproveita o id
+    private int registrarNome(String nome) {
+        Integer id = this.idsPorNome.get(nome);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (this) {
+            return this.idsPorNome.computeIfAbsent(nome, n -> {
+                this.nomesPorId.add(n);
+                return this.nomesPorId.size() - 1;
+            });
+        }
+    }
+
+    private synchronized void definirNome(int id, String nome) {
+        while (this.nomesPorId.size() <= id) {
+            this.nomesPorId.add(null);
+        }
+        this.nomesPorId.set(id, nome);
+        this.idsPorNome.put(nome, id);
+    }
+
+    private synchronized String nomeDoId(int id) {
+        String nome = id < this.nomesPorId.size() ? this.nomesPorId.get(id) : null;
+        if (nome == null) {
+            throw new IllegalStateException("Id de atração desconhecido no dicionário: " + id);
+        }
+        return nome;
+    }
+
+    public synchronized void escreverDicionario(Saida saida) {
+        saida.escreverVarInt(this.nomesPorId.size());
+        for (String nome : this.nomesPorId) {
+            saida.escreverTexto(nome != null ? nome : "");
+        }
+    }
+
+    public void lerDicionario(ByteBuffer entrada) {
+        int tamanho = lerVarInt(entrada);
+        for (int id = 0; id < tamanho; id++) {
+            String nome = lerTexto(entrada);
+            if (!nome.isEmpty()) {
+                definirNome(id, nome);
+            }
+        }
+    }
+
+    // ========== ENTIDADES ==========
+
+    // Definição completa: id, nome e os demais campos
+    public void escreverAtracao(Saida saida, Atracao atracao) {
+        saida.escreverVarInt(registrarNome(atracao.getNome()));
+        saida.escreverTexto(atracao.getNome());
+        escreverEnum(saida, atracao.getTipo());
+        saida.escreverVarInt(atracao.getCapacidadePorSessao());
+        saida.escreverVarInt(atracao.getFaixaEtariaMininima());
+        escreverEnum(saida, atracao.getPrioridadeAceita());
+
+        LinkedList<HorarioSessao> horarios = atracao.getHorariosSessao();
+        saida.escreverVarInt(horarios.getSize());
+        for (HorarioSessao horario : horarios) {
+            escreverHorario(saida, horario);
+        }
+    }
+
+    public Atracao lerAtracao(ByteBuffer entrada) {
+        int id = lerVarInt(entrada);
+        String nome = lerTexto(entrada);
+        TipoAtracao tipo = lerEnum(entrada, TipoAtracao.values());
+        int capacidade = lerVarInt(entrada);
+        int faixaEtaria = lerVarInt(entrada);
+        NivelPrioridade prioridade = lerEnum(entrada, NivelPrioridade.values());
+
+        Atracao atracao = new Atracao(capacidade, faixaEtaria, nome, tipo, prioridade);
+        int horarios = lerVarInt(entrada);
+        for (int i = 0; i < horarios; i++) {
+            HorarioSessao horario = lerHorario(entrada);
+            atracao.adicionarHorario(horario.getHoraInicio(), horario.getHoraFim());
+        }
+
+        definirNome(id, nome);
+        return atracao;
+    }
+
+    // Referência a uma atração já definida neste codec
+    public void escreverReferenciaAtracao(Saida saida, Atracao atracao) {
+        Integer id = this.idsPorNome.get(atracao.getNome());
+        if (id == null) {
+            throw new IllegalStateException("Atração ainda não definida no codec: " + atracao.getNome());
+        }
+        saida.escreverVarInt(id);
+    }
+
+    // Devolve o nome, para a busca no sistema
+    public String lerReferenciaAtracao(ByteBuffer entrada) {
+        return nomeDoId(lerVarInt(entrada));
+    }
+
+    public void escreverVisitante(Saida saida, Visitante visitante) {
+        escreverCpf(saida, visitante.getCpf());
+        saida.escreverTexto(visitante.getNome());
+        saida.escreverTexto(visitante.getEmail());
+        saida.escreverInt((int) visitante.getDataNascimento().toEpochDay());
+        escreverEnum(saida, visitante.getTipoIngresso());
+    }
+
+    public Visitante lerVisitante(ByteBuffer entrada) {
+        String cpf = lerCpf(entrada);
+        String nome = lerTexto(entrada);
+        String email = lerTexto(entrada);
+        LocalDate dataNascimento = LocalDate.ofEpochDay(entrada.getInt());
+        TipoIngresso tipoIngresso = lerEnum(entrada, TipoIngresso.values());
+
+        return new Visitante(cpf, dataNascimento, email, nome, tipoIngresso);
+    }
+
+    // Visitante e atração por referência (CPF e id do dicionário); status e conclusão só se já terminou
+    public void escreverReserva(Saida saida, Reserva reserva) {
+        StatusReserva status = reserva.getStatus();
+
+        saida.escreverVarInt(reserva.getId());
+        escreverCpf(saida, reserva.getVisitante().getCpf());
+        escreverReferenciaAtracao(saida, reserva.getAtracao());
+        escreverDataHora(saida, reserva.getDataHoraCriacao());
+
+        HorarioSessao horario = reserva.getHorarioEscolhido();
+        saida.escreverByte(horario != null ? 1 : 0);
+        if (horario != null) {
+            escreverHorario(saida, horario);
+        }
+
+        escreverEnum(saida, status);
+        if (status != StatusReserva.ATIVA) {
+            escreverDataHora(saida, reserva.getDataHoraConclusao());
+        }
+    }
+
+    /**
+     * Lê uma reserva resolvendo o visitante pelo CPF e a atração pelo nome
+     */
+    public Reserva lerReserva(ByteBuffer entrada, Function<String, Visitante> visitantes,
+                              Function<String, Atracao> atracoes) {
+        int id = lerVarInt(entrada);
+        Visitante visitante = visitantes.apply(lerCpf(entrada));
+        Atracao atracao = atracoes.apply(lerReferenciaAtracao(entrada));
+        LocalDateTime criacao = lerDataHora(entrada);
+        HorarioSessao horario = entrada.get() != 0 ? lerHorario(entrada) : null;
+
+        Reserva reserva = new Reserva(id, visitante, atracao, horario, criacao);
+
+        StatusReserva status = lerEnum(entrada, StatusReserva.values());
+        if (status == StatusReserva.CONCLUIDA) {
+            reserva.concluir(lerDataHora(entrada));
+        } else if (status == StatusReserva.CANCELADA) {
+            reserva.cancelar(lerDataHora(entrada));
+        }
+        return reserva;
+    }
+
+    public static void escreverHorario(Saida saida, HorarioSessao horario) {
+        saida.escreverVarInt(horario.getHoraInicio().toSecondOfDay());
+        saida.escreverVarInt(horario.getHoraFim().toSecondOfDay());
+    }
+
+    public static HorarioSessao lerHorario(ByteBuffer entrada) {
+        LocalTime inicio = LocalTime.ofSecondOfDay(lerVarInt(entrada));
+        LocalTime fim = LocalTime.ofSecondOfDay(lerVarInt(entrada));
+        return new HorarioSessao(inicio, fim);
+    }
+
+    // ========== CAMPOS ==========
+
+    public static void escreverCpf(Saida saida, String cpf) {
+        long compactado = compactarCpf(cpf);
+        saida.escreverLong(compactado);
+        if (compactado == CPF_COMO_TEXTO) {
+            saida.escreverTexto(cpf);
+        }
+    }
+
+    public static String lerCpf(ByteBuffer entrada) {
+        long compactado = entrada.getLong();
+        return compactado == CPF_COMO_TEXTO ? lerTexto(entrada) : expandirCpf(compactado);
+    }
+
+    // Os 11 dígitos como número, ou -1 se o texto tiver qualquer outro caractere
+    public static long compactarCpf(String cpf) {
+        if (cpf.length() != 11) {
+            return CPF_COMO_TEXTO;
+        }
+
+        long valor = 0;
+        for (int i = 0; i < 11; i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                return CPF_COMO_TEXTO;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor;
+    }
+
+    public static String expandirCpf(long compactado) {
+        char[] digitos = new char[11];
+        for (int i = 10; i >= 0; i--) {
+            digitos[i] = (char) ('0' + compactado % 10);
+            compactado /= 10;
+        }
+        return new String(digitos);
+    }
+
+    // Precisão de milissegundos: o modelo já cria os seus instantes assim (Reserva.agora())
+    public static void escreverDataHora(Saida saida, LocalDateTime dataHora) {
+        saida.escreverLong(dataHora.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    public static LocalDateTime lerDataHora(ByteBuffer entrada) {
+        long millis = entrada.getLong();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    public static void escreverEnum(Saida saida, Enum<?> valor) {
+        saida.escreverByte(valor != null ? valor.ordinal() + 1 : 0);
+    }
+
+    public static <E extends Enum<E>> E lerEnum(ByteBuffer entrada, E[] valores) {
+        int codigo = Byte.toUnsignedInt(entrada.get());
+        if (codigo > valores.length) {
+            throw new IllegalArgumentException("Valor de enum inválido: " + codigo);
+        }
+        return codigo == 0 ? null : valores[codigo - 1];
+    }
+
+    public static int lerVarInt(ByteBuffer entrada) {
+        int valor = 0;
+        for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+            byte b = entrada.get();
+            valor |= (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varint longo demais");
+    }
+
+    public static String lerTexto(ByteBuffer entrada) {
+        int tamanho = lerVarInt(entrada);
+        String texto;
+
+        if (entrada.hasArray()) {
+            int inicio = entrada.arrayOffset() + entrada.position();
+            texto = new String(entrada.array(), inicio, tamanho, StandardCharsets.UTF_8);
+            entrada.position(entrada.position() + tamanho);
+        } else {
+            byte[] bytes = new byte[tamanho];
+            entrada.get(bytes);
+            texto = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return texto;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CodecParque{" +
+                "versao=" + VERSAO +
+                ", atracoesNoDicionario=" + nomesPorId.size() +
+                '}';
+    }
+
+    /**
+     * Buffer de escrita que cresce sob demanda e pode ser reutilizado
+     * ({@link #limpar()}) entre registros. Inteiros em big-endian, como o
+     * padrão de {@link ByteBuffer} na leitura.
+     */
+    public static final class Saida {
+        private byte[] bytes;
+        private int tamanho;
+
+        public Saida(int capacidadeInicial) {
+            this.bytes = new byte[Math.max(16, capacidadeInicial)];
+        }
+
+        public void limpar() {
+            this.tamanho = 0;
+        }
+
+        public void escreverByte(int valor) {
+            garantir(1);
+            this.bytes[this.tamanho++] = (byte) valor;
+        }
+
+        public void escreverInt(int valor) {
+            garantir(Integer.BYTES);
+            for (int deslocamento = 24; deslocamento >= 0; deslocamento -= 8) {
+                this.bytes[this.tamanho++] = (byte) (valor >>> deslocamento);
+            }
+        }
+
+        public void escreverLong(long valor) {
+            garantir(Long.BYTES);
+            for (int deslocamento = 56; deslocamento >= 0; deslocamento -= 8) {
+                this.bytes[this.tamanho++] = (byte) (valor >>> deslocamento);
+            }
+        }
+
+        // Inteiro não negativo em 7 bits por byte (1 byte até 127)
+        public void escreverVarInt(int valor) {
+            if (valor < 0) {
+                throw new IllegalArgumentException("Varint não pode ser negativo: " + valor);
+            }
+            garantir(5);
+            while (valor >= 0x80) {
+                this.bytes[this.tamanho++] = (byte) (valor | 0x80);
+                valor >>>= 7;
+            }
+            this.bytes[this.tamanho++] = (byte) valor;
+        }
+
+        // UTF-8 escrito direto no buffer, sem o byte[] intermediário de getBytes
+        public void escreverTexto(String texto) {
+            int comprimento = texto.length();
+            int utf8 = 0;
+            for (int i = 0; i < comprimento; i++) {
+                char c = texto.charAt(i);
+                if (c < 0x80) {
+                    utf8++;
+                } else if (c < 0x800) {
+                    utf8 += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < comprimento
+                        && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                    utf8 += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    utf8++;
+                } else {
+                    utf8 += 3;
+                }
+            }
+
+            escreverVarInt(utf8);
+            garantir(utf8);
+            for (int i = 0; i < comprimento; i++) {
+                char c = texto.charAt(i);
+                if (c < 0x80) {
+                    this.bytes[this.tamanho++] = (byte) c;
+                } else if (c < 0x800) {
+                    this.bytes[this.tamanho++] = (byte) (0xC0 | (c >> 6));
+                    this.bytes[this.tamanho++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < comprimento
+                        && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                    int codigo = Character.toCodePoint(c, texto.charAt(++i));
+                    this.bytes[this.tamanho++] = (byte) (0xF0 | (codigo >> 18));
+                    this.bytes[this.tamanho++] = (byte) (0x80 | ((codigo >> 12) & 0x3F));
+                    this.bytes[this.tamanho++] = (byte) (0x80 | ((codigo >> 6) & 0x3F));
+                    this.bytes[this.tamanho++] = (byte) (0x80 | (codigo & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Surrogate solto vira '?', como em String.getBytes
+                    this.bytes[this.tamanho++] = '?';
+                } else {
+                    this.bytes[this.tamanho++] = (byte) (0xE0 | (c >> 12));
+                    this.bytes[this.tamanho++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    this.bytes[this.tamanho++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void garantir(int bytes) {
+            if (this.bytes.length - this.tamanho < bytes) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.tamanho + bytes));
+            }
+        }
+
+        // Buffer interno: válido até a próxima escrita
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public int getTamanho() {
+            return tamanho;
+        }
+    }
+}
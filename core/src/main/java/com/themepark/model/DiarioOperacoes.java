@@ -0,0 +1,249 @@
+package com.themepark.model;
+
+import com.themepark.persistencia.ConfiguracaoLog;
+import com.themepark.persistencia.LogEscritaAntecipada;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Diário das operações que alteram o {@link SistemaParque}, gravado num
+ * {@link LogEscritaAntecipada}. Ao abrir, as operações já registradas são
+ * reaplicadas com os mesmos ids de reserva e horários; depois disso, cada
+ * cadastro, remoção, entrada e saída de fila e sessão processada é registrada
+ * antes de o método correspondente do sistema retornar.
+ *
+ * Com um arquivo de instantâneo, a abertura carrega o último
+ * {@link InstantaneoParque} gravado e reaplica só a parte do diário posterior
+ * a ele; {@link #gravarInstantaneo()} grava um novo.
+ *
+ * Os registros usam o {@link CodecParque}; um diário novo começa com um
+ * registro de cabeçalho com a versão do codec.
+ */
+public final class DiarioOperacoes implements AutoCloseable {
+    private static final byte CABECALHO = 0;
+    private static final byte CADASTRO_ATRACAO = 1;
+    private static final byte REMOCAO_ATRACAO = 2;
+    private static final byte CADASTRO_VISITANTE = 3;
+    private static final byte REMOCAO_VISITANTE = 4;
+    private static final byte ENTRADA_FILA = 5;
+    private static final byte SAIDA_FILA = 6;
+    private static final byte SESSAO_PROCESSADA = 7;
+
+    // Buffer de codificação de cada thread, reutilizado entre registros
+    private static final ThreadLocal<CodecParque.Saida> SAIDAS =
+            ThreadLocal.withInitial(() -> new CodecParque.Saida(256));
+
+    private final SistemaParque sistema;
+    private final LogEscritaAntecipada log;
+    private final Path arquivoInstantaneo;
+    // O dicionário de nomes de atração é compartilhado por diário e instantâneos
+    private final CodecParque codec;
+    // Só durante a reaplicação: quem foi removido do cadastro ainda pode sair de filas
+    // em que estava (ou entrar, se o objeto continuou em uso), como no sistema original
+    private final Map<String, Visitante> visitantesRemovidos;
+
+    private DiarioOperacoes(SistemaParque sistema, Path arquivo, Path arquivoInstantaneo,
+                            ConfiguracaoLog configuracao) throws IOException {
+        this.sistema = sistema;
+        this.arquivoInstantaneo = arquivoInstantaneo;
+        this.visitantesRemovidos = new HashMap<>();
+        this.codec = new CodecParque();
+
+        long posicaoInicial = 0;
+        if (arquivoInstantaneo != null && Files.exists(arquivoInstantaneo)) {
+            InstantaneoParque instantaneo = InstantaneoParque.ler(arquivoInstantaneo, this.codec);
+            instantaneo.restaurar(sistema);
+            for (Visitante visitante : instantaneo.listarVisitantesForaDoCadastro()) {
+                this.visitantesRemovidos.put(visitante.getCpf(), visitante);
+            }
+            posicaoInicial = instantaneo.getPosicaoDiario();
+        }
+
+        this.log = new LogEscritaAntecipada(arquivo, configuracao, posicaoInicial, this::reaplicar);
+
+        if (this.log.getPosicaoAnexada() == 0) {
+            anexar(CABECALHO, saida -> saida.escreverInt(CodecParque.VERSAO));
+        }
+    }
+
+    /**
+     * Reaplica o diário existente no sistema e passa a registrar as novas operações
+     */
+    public static DiarioOperacoes abrir(SistemaParque sistema, Path arquivo, ConfiguracaoLog configuracao)
+            throws IOException {
+        return abrir(sistema, arquivo, null, configuracao);
+    }
+
+    /**
+     * Carrega o instantâneo, se existir, reaplica o diário a partir do ponto de
+     * corte dele e passa a registrar as novas operações
+     */
+    public static DiarioOperacoes abrir(SistemaParque sistema, Path arquivo, Path arquivoInstantaneo,
+                                        ConfiguracaoLog configuracao) throws IOException {
+        DiarioOperacoes diario = new DiarioOperacoes(sistema, arquivo, arquivoInstantaneo, configuracao);
+        diario.visitantesRemovidos.clear();
+
+        try {
+            sistema.anexarDiario(diario);
+        } catch (RuntimeException e) {
+            diario.log.close();
+            throw e;
+        }
+
+        return diario;
+    }
+
+    // ========== REGISTRO ==========
+
+    long registrarCadastroAtracao(Atracao atracao) {
+        return anexar(CADASTRO_ATRACAO, saida -> this.codec.escreverAtracao(saida, atracao));
+    }
+
+    long registrarRemocaoAtracao(Atracao atracao) {
+        return anexar(REMOCAO_ATRACAO, saida -> this.codec.escreverReferenciaAtracao(saida, atracao));
+    }
+
+    long registrarCadastroVisitante(Visitante visitante) {
+        return anexar(CADASTRO_VISITANTE, saida -> this.codec.escreverVisitante(saida, visitante));
+    }
+
+    long registrarRemocaoVisitante(Visitante visitante) {
+        return anexar(REMOCAO_VISITANTE, saida -> CodecParque.escreverCpf(saida, visitante.getCpf()));
+    }
+
+    long registrarEntradaNaFila(Reserva reserva) {
+        return anexar(ENTRADA_FILA, saida -> this.codec.escreverReserva(saida, reserva));
+    }
+
+    long registrarSaidaDaFila(Visitante visitante, Atracao atracao, LocalDateTime instante) {
+        return anexar(SAIDA_FILA, saida -> {
+            CodecParque.escreverCpf(saida, visitante.getCpf());
+            this.codec.escreverReferenciaAtracao(saida, atracao);
+            CodecParque.escreverDataHora(saida, instante);
+        });
+    }
+
+    long registrarSessaoProcessada(Atracao atracao, LocalDateTime instante) {
+        return anexar(SESSAO_PROCESSADA, saida -> {
+            this.codec.escreverReferenciaAtracao(saida, atracao);
+            CodecParque.escreverDataHora(saida, instante);
+        });
+    }
+
+    // Espera o registro ficar durável; chamado depois que os locks do sistema foram liberados
+    void aguardar(long lsn) {
+        this.log.aguardar(lsn);
+    }
+
+    private long anexar(byte tipo, Escritor escritor) {
+        CodecParque.Saida saida = SAIDAS.get();
+        saida.limpar();
+        saida.escreverByte(tipo);
+        escritor.escrever(saida);
+
+        return this.log.anexar(saida.getBytes(), 0, saida.getTamanho());
+    }
+
+    // ========== REAPLICAÇÃO ==========
+
+    private void reaplicar(ByteBuffer registro) {
+        byte tipo = registro.get();
+
+        switch (tipo) {
+            case CABECALHO -> {
+                int versao = registro.getInt();
+                if (versao != CodecParque.VERSAO) {
+                    throw new IllegalStateException("Versão do diário não suportada: " + versao);
+                }
+            }
+            case CADASTRO_ATRACAO -> this.sistema.cadastrarAtracao(this.codec.lerAtracao(registro));
+            case REMOCAO_ATRACAO -> this.sistema.removerAtracao(this.codec.lerReferenciaAtracao(registro));
+            case CADASTRO_VISITANTE -> {
+                Visitante visitante = this.codec.lerVisitante(registro);
+
+                this.sistema.cadastrarVisitante(visitante);
+                this.visitantesRemovidos.remove(visitante.getCpf());
+            }
+            case REMOCAO_VISITANTE -> {
+                String cpf = CodecParque.lerCpf(registro);
+                Visitante visitante = this.sistema.buscarVisitante(cpf);
+
+                if (visitante != null && this.sistema.removerVisitante(cpf)) {
+                    this.visitantesRemovidos.put(cpf, visitante);
+                }
+            }
+            case ENTRADA_FILA -> this.sistema.restaurarEntradaNaFila(
+                    this.codec.lerReserva(registro, this::exigirVisitante, this::exigirAtracao));
+            case SAIDA_FILA -> {
+                Visitante visitante = exigirVisitante(CodecParque.lerCpf(registro));
+                Atracao atracao = exigirAtracao(this.codec.lerReferenciaAtracao(registro));
+
+                this.sistema.restaurarSaidaDaFila(visitante, atracao, CodecParque.lerDataHora(registro));
+            }
+            case SESSAO_PROCESSADA -> {
+                Atracao atracao = exigirAtracao(this.codec.lerReferenciaAtracao(registro));
+
+                this.sistema.restaurarSessaoProcessada(atracao, CodecParque.lerDataHora(registro));
+            }
+            default -> throw new IllegalStateException("Tipo de registro desconhecido no diário: " + tipo);
+        }
+    }
+
+    private Visitante exigirVisitante(String cpf) {
+        Visitante visitante = this.sistema.buscarVisitante(cpf);
+        if (visitante == null) {
+            visitante = this.visitantesRemovidos.get(cpf);
+        }
+        if (visitante == null) {
+            throw new IllegalStateException("Diário referencia visitante inexistente: " + cpf);
+        }
+        return visitante;
+    }
+
+    private Atracao exigirAtracao(String nome) {
+        Atracao atracao = this.sistema.buscarAtracao(nome);
+        if (atracao == null) {
+            throw new IllegalStateException("Diário referencia atração inexistente: " + nome);
+        }
+        return atracao;
+    }
+
+    // ========== INSTANTÂNEO ==========
+
+    /**
+     * Grava um instantâneo do sistema. As operações ficam pausadas só durante
+     * a cópia do estado; a gravação do arquivo acontece com elas em andamento.
+     */
+    public synchronized void gravarInstantaneo() throws IOException {
+        if (this.arquivoInstantaneo == null) {
+            throw new IllegalStateException("Diário aberto sem arquivo de instantâneo");
+        }
+
+        InstantaneoParque instantaneo = this.sistema.capturarInstantaneo(this.log::getPosicaoAnexada);
+        // O instantâneo aponta para uma posição do diário: tudo antes dela precisa estar no disco
+        this.log.sincronizar();
+        instantaneo.gravar(this.arquivoInstantaneo, this.codec);
+    }
+
+    // ========== ENCERRAMENTO ==========
+
+    /**
+     * Para de registrar operações e fecha o log, gravando o que estiver pendente
+     */
+    @Override
+    public void close() throws IOException {
+        this.sistema.desanexarDiario(this);
+        this.log.close();
+    }
+
+    @FunctionalInterface
+    private interface Escritor {
+        void escrever(CodecParque.Saida saida);
+    }
+}
@@ -0,0 +1,40 @@
+package com.themepark.model;
+
+/**
+ * Espera adiada pela durabilidade de um lote de operações. As operações de um
+ * lote anotam aqui o seu registro no diário em vez de esperar por ele; quem
+ * aplicou o lote libera os locks e espera uma vez só, pelo maior LSN, antes de
+ * responder a qualquer pedido do lote.
+ *
+ * Não é thread-safe: pertence a quem aplica o lote.
+ */
+final class EsperaDiario {
+    private DiarioOperacoes diario;
+    private long lsn;
+
+    void anotar(DiarioOperacoes diario, long lsn) {
+        if (diario == null || lsn <= 0) {
+            return;
+        }
+
+        // O diário foi trocado no meio do lote: o anterior não recebe mais nada, espera por ele já
+        if (this.diario != null && this.diario != diario) {
+            aguardar();
+        }
+
+        this.diario = diario;
+        this.lsn = Math.max(this.lsn, lsn);
+    }
+
+    // Espera o maior registro anotado e zera a espera para o próximo lote
+    void aguardar() {
+        DiarioOperacoes pendente = this.diario;
+        long ultimo = this.lsn;
+        this.diario = null;
+        this.lsn = 0;
+
+        if (pendente != null) {
+            pendente.aguardar(ultimo);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.themepark.model;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class Estatisticas {
+    private SistemaParque sistema;
+
+    // Contadores mantidos pelo SistemaParque a cada mudança de estado, para leituras em O(1)
+    // (atômicos, pois as filas de atrações diferentes são atualizadas em paralelo)
+    private final AtomicInteger totalReservas;
+    private final AtomicInteger reservasAtivas;
+    private final AtomicInteger reservasConcluidas;
+    private final AtomicInteger reservasCanceladas;
+    private final AtomicInteger pessoasEmFilas;
+    private final AtomicIntegerArray visitantesPorTipoIngresso;
+    private final Map<Atracao, Integer> reservasPorAtracao;
+
+    public Estatisticas(SistemaParque sistema) {
+        this.sistema = sistema;
+        this.totalReservas = new AtomicInteger();
+        this.reservasAtivas = new AtomicInteger();
+        this.reservasConcluidas = new AtomicInteger();
+        this.reservasCanceladas = new AtomicInteger();
+        this.pessoasEmFilas = new AtomicInteger();
+        this.visitantesPorTipoIngresso = new AtomicIntegerArray(TipoIngresso.values().length);
+        this.reservasPorAtracao = new ConcurrentHashMap<>();
+    }
+
+    // ========== ATUALIZAÇÃO DOS CONTADORES ==========
+
+    void registrarVisitanteCadastrado(Visitante visitante) {
+        this.visitantesPorTipoIngresso.incrementAndGet(visitante.getTipoIngresso().ordinal());
+    }
+
+    void registrarVisitanteRemovido(Visitante visitante) {
+        this.visitantesPorTipoIngresso.decrementAndGet(visitante.getTipoIngresso().ordinal());
+    }
+
+    void registrarReservaCriada(Reserva reserva) {
+        this.totalReservas.incrementAndGet();
+        this.reservasAtivas.incrementAndGet();
+        this.reservasPorAtracao.merge(reserva.getAtracao(), 1, Integer::sum);
+    }
+
+    void registrarReservaConcluida(Reserva reserva) {
+        this.reservasAtivas.decrementAndGet();
+        this.reservasConcluidas.incrementAndGet();
+    }
+
+    void registrarReservaCancelada(Reserva reserva) {
+        this.reservasAtivas.decrementAndGet();
+        this.reservasCanceladas.incrementAndGet();
+    }
+
+    void registrarEntradaNaFila() {
+        this.pessoasEmFilas.incrementAndGet();
+    }
+
+    void registrarSaidaDaFila(int quantidade) {
+        this.pessoasEmFilas.addAndGet(-quantidade);
+    }
+
+    /**
+     * Retorna o total de reservas feitas em uma data específica
+     */
+    public int getTotalReservasDia(LocalDate data) {
+        return sistema.getReservasPorDia().contarReservasDia(data);
+    }
+
+    /**
+     * Retorna o total de reservas feitas hoje
+     */
+    public int getTotalReservasHoje() {
+        return getTotalReservasDia(LocalDate.now());
+    }
+
+    /**
+     * Retorna a atração mais disputada (com mais reservas) do dia
+     */
+    public Atracao getAtracaoMaisDisputadaDia(LocalDate data) {
+        return sistema.getReservasPorDia().obterAtracaoMaisDisputada(data);
+    }
+
+    /**
+     * Retorna até k atrações com mais reservas no dia, da mais disputada para a menos
+     */
+    public List<Atracao> getAtracoesMaisDisputadasDia(LocalDate data, int k) {
+        return sistema.getReservasPorDia().obterAtracoesMaisDisputadas(data, k);
+    }
+
+    /**
+     * Retorna a atração mais disputada de hoje
+     */
+    public Atracao getAtracaoMaisDisputadaHoje() {
+        return getAtracaoMaisDisputadaDia(LocalDate.now());
+    }
+
+    /**
+     * Retorna o visitante que mais usou o sistema (mais reservas) no dia
+     */
+    public Visitante getVisitanteMaisAtivoDia(LocalDate data) {
+        return sistema.getReservasPorDia().obterVisitanteMaisAtivo(data);
+    }
+
+    /**
+     * Retorna até k visitantes com mais reservas no dia, do mais ativo para o menos
+     */
+    public List<Visitante> getVisitantesMaisAtivosDia(LocalDate data, int k) {
+        return sistema.getReservasPorDia().obterVisitantesMaisAtivos(data, k);
+    }
+
+    /**
+     * Retorna o visitante mais ativo de hoje
+     */
+    public Visitante getVisitanteMaisAtivoHoje() {
+        return getVisitanteMaisAtivoDia(LocalDate.now());
+    }
+
+    /**
+     * Retorna um ranking de todas as atrações por número de reservas (histórico completo)
+     */
+    public Map<Atracao, Integer> getRankingAtracoes() {
+        return new HashMap<>(reservasPorAtracao);
+    }
+
+    /**
+     * Retorna o total de visitantes cadastrados no sistema
+     */
+    public int getTotalVisitantes() {
+        return sistema.contarVisitantes();
+    }
+
+    /**
+     * Retorna o total de atrações cadastradas no sistema
+     */
+    public int getTotalAtracoes() {
+        return sistema.contarAtracoes();
+    }
+
+    /**
+     * Retorna o total de reservas ativas no momento
+     */
+    public int getTotalReservasAtivas() {
+        return reservasAtivas.get();
+    }
+
+    /**
+     * Retorna o total de reservas concluídas
+     */
+    public int getTotalReservasConcluidas() {
+        return reservasConcluidas.get();
+    }
+
+    /**
+     * Retorna o total de reservas canceladas
+     */
+    public int getTotalReservasCanceladas() {
+        return reservasCanceladas.get();
+    }
+
+    /**
+     * Retorna o total de pessoas aguardando em todas as filas
+     */
+    public int getTotalPessoasEmFilas() {
+        return pessoasEmFilas.get();
+    }
+
+    /**
+     * Retorna a fila mais longa no momento
+     */
+    public FilaVirtual getFilaMaisLonga() {
+        return sistema.streamFilasVirtuais()
+                .filter(fila -> fila.getTamanho() > 0)
+                .max(Comparator.comparingInt(FilaVirtual::getTamanho))
+                .orElse(null);
+    }
+
+    /**
+     * Retorna a distribuição de tipos de ingresso dos visitantes
+     */
+    public Map<TipoIngresso, Integer> getDistribuicaoTiposIngresso() {
+        Map<TipoIngresso, Integer> distribuicao = new HashMap<>();
+
+        for (TipoIngresso tipo : TipoIngresso.values()) {
+            distribuicao.put(tipo, visitantesPorTipoIngresso.get(tipo.ordinal()));
+        }
+
+        return distribuicao;
+    }
+
+    /**
+     * Retorna a taxa de conclusão de reservas (concluídas / total)
+     */
+    public double getTaxaConclusaoReservas() {
+        int total = totalReservas.get();
+        return total > 0 ? (double) reservasConcluidas.get() / total * 100.0 : 0.0;
+    }
+
+    /**
+     * Gera o relatório do dia atual: os números gerais vêm dos contadores e os
+     * números do dia vêm da partição de hoje, sem percorrer reservas
+     */
+    public RelatorioParque gerarRelatorio() {
+        LocalDate hoje = LocalDate.now();
+        IndiceReservasPorDia reservasPorDia = sistema.getReservasPorDia();
+
+        FilaVirtual filaMaisLonga = getFilaMaisLonga();
+
+        return new RelatorioParque(
+                hoje,
+                getTotalVisitantes(),
+                getTotalAtracoes(),
+                getTotalReservasAtivas(),
+                getTotalPessoasEmFilas(),
+                getTaxaConclusaoReservas(),
+                reservasPorDia.contarReservasDia(hoje),
+                reservasPorDia.obterAtracaoMaisDisputada(hoje),
+                reservasPorDia.obterVisitanteMaisAtivo(hoje),
+                filaMaisLonga,
+                filaMaisLonga != null ? filaMaisLonga.getTamanho() : 0
+        );
+    }
+
+    /**
+     * Retorna um relatório completo em formato String
+     */
+    public String gerarRelatorioCompleto() {
+        return gerarRelatorio().formatarTexto();
+    }
+}
@@ -0,0 +1,295 @@
+package com.themepark.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+/**
+ * Exportação do histórico de reservas em CSV ou NDJSON (um objeto JSON por
+ * linha). As reservas são lidas direto da lista interna do sistema (ou, com
+ * datas no filtro, das partições desses dias no índice por dia) e cada
+ * linha é codificada num buffer de tamanho fixo, despejado no canal quando
+ * enche: o uso de memória não depende de quantas reservas existem.
+ *
+ * A exportação pode demorar; chame-a fora da thread da interface.
+ */
+public final class ExportadorReservas {
+    public enum Formato {
+        CSV,
+        NDJSON
+    }
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final String CABECALHO_CSV = "id,cpf,visitante,atracao,horario,status,criacao,conclusao\n";
+
+    private final Formato formato;
+    private final Filtro filtro;
+
+    private final ByteBuffer buffer;
+    private final CharsetEncoder codificador;
+    private final StringBuilder linha;
+    private WritableByteChannel canal;
+    private long exportadas;
+
+    public ExportadorReservas(Formato formato, Filtro filtro) {
+        if (formato == null) {
+            throw new IllegalArgumentException("Formato não pode ser nulo");
+        }
+
+        this.formato = formato;
+        this.filtro = filtro != null ? filtro : Filtro.todas();
+        this.buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+        this.codificador = StandardCharsets.UTF_8.newEncoder();
+        this.linha = new StringBuilder(256);
+    }
+
+    /**
+     * Cria (ou sobrescreve) o arquivo e grava nele as reservas que passam no filtro
+     *
+     * @return quantas reservas foram exportadas
+     */
+    public long exportar(SistemaParque sistema, Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return exportar(sistema, canal);
+        }
+    }
+
+    // O canal não é fechado aqui
+    public synchronized long exportar(SistemaParque sistema, WritableByteChannel canal) throws IOException {
+        this.canal = canal;
+        this.exportadas = 0;
+        this.buffer.clear();
+
+        try {
+            if (this.formato == Formato.CSV) {
+                this.linha.setLength(0);
+                this.linha.append(CABECALHO_CSV);
+                escreverLinha();
+            }
+
+            reservasCandidatas(sistema).forEach(reserva -> {
+                // Lido uma vez: o status pode mudar enquanto a exportação corre
+                StatusReserva status = reserva.getStatus();
+                if (this.filtro.aceita(reserva, status)) {
+                    try {
+                        exportarReserva(reserva, status);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+
+            despejar();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.canal = null;
+        }
+
+        return this.exportadas;
+    }
+
+    // Com datas no filtro, só as partições desses dias no índice por dia são lidas
+    private Stream<Reserva> reservasCandidatas(SistemaParque sistema) {
+        if (this.filtro.dataInicio == null && this.filtro.dataFim == null) {
+            return sistema.streamReservas();
+        }
+        return sistema.getReservasPorDia().streamReservas(this.filtro.dataInicio, this.filtro.dataFim);
+    }
+
+    private void exportarReserva(Reserva reserva, StatusReserva status) throws IOException {
+        // Coerente com o status capturado: uma reserva exportada como ATIVA sai sem conclusão
+        LocalDateTime conclusao = status != StatusReserva.ATIVA ? reserva.getDataHoraConclusao() : null;
+        HorarioSessao horario = reserva.getHorarioEscolhido();
+        StringBuilder l = this.linha;
+        l.setLength(0);
+
+        if (this.formato == Formato.CSV) {
+            l.append(reserva.getId()).append(',');
+            textoCsv(reserva.getVisitante().getCpf());
+            l.append(',');
+            textoCsv(reserva.getVisitante().getNome());
+            l.append(',');
+            textoCsv(reserva.getAtracao().getNome());
+            l.append(',');
+            horario(horario);
+            l.append(',').append(status.name()).append(',');
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(reserva.getDataHoraCriacao(), l);
+            l.append(',');
+            if (conclusao != null) {
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(conclusao, l);
+            }
+        } else {
+            l.append("{\"id\":").append(reserva.getId());
+            l.append(",\"cpf\":");
+            TextoJson.escrever(l, reserva.getVisitante().getCpf());
+            l.append(",\"visitante\":");
+            TextoJson.escrever(l, reserva.getVisitante().getNome());
+            l.append(",\"atracao\":");
+            TextoJson.escrever(l, reserva.getAtracao().getNome());
+            l.append(",\"horario\":");
+            if (horario != null) {
+                l.append('"');
+                horario(horario);
+                l.append('"');
+            } else {
+                l.append("null");
+            }
+            l.append(",\"status\":\"").append(status.name()).append('"');
+            l.append(",\"criacao\":\"");
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(reserva.getDataHoraCriacao(), l);
+            l.append("\",\"conclusao\":");
+            if (conclusao != null) {
+                l.append('"');
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(conclusao, l);
+                l.append('"');
+            } else {
+                l.append("null");
+            }
+            l.append('}');
+        }
+        l.append('\n');
+
+        escreverLinha();
+        this.exportadas++;
+    }
+
+    private void horario(HorarioSessao horario) {
+        if (horario != null) {
+            this.linha.append(horario.getHoraInicio()).append('-').append(horario.getHoraFim());
+        }
+    }
+
+    // Entre aspas só quando precisa (vírgula, aspas ou quebra de linha), com "" para cada aspa
+    private void textoCsv(String texto) {
+        if (texto == null) {
+            return;
+        }
+
+        boolean aspas = false;
+        for (int i = 0; i < texto.length() && !aspas; i++) {
+            char c = texto.charAt(i);
+            aspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aspas) {
+            this.linha.append(texto);
+            return;
+        }
+
+        this.linha.append('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '"') {
+                this.linha.append('"');
+            }
+            this.linha.append(c);
+        }
+        this.linha.append('"');
+    }
+
+    // Codifica a linha montada no buffer, despejando-o no canal sempre que enche
+    private void escreverLinha() throws IOException {
+        CharBuffer caracteres = CharBuffer.wrap(this.linha);
+        this.codificador.reset();
+
+        while (true) {
+            CoderResult resultado = this.codificador.encode(caracteres, this.buffer, true);
+            if (resultado.isOverflow()) {
+                despejar();
+            } else if (resultado.isUnderflow()) {
+                break;
+            } else {
+                resultado.throwException();
+            }
+        }
+        while (this.codificador.flush(this.buffer).isOverflow()) {
+            despejar();
+        }
+    }
+
+    private void despejar() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.canal.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ExportadorReservas{" +
+                "formato=" + formato +
+                ", filtro=" + filtro +
+                '}';
+    }
+
+    /**
+     * Critérios de seleção das reservas; um critério nulo aceita qualquer valor.
+     * As datas se referem ao dia de criação da reserva e são inclusivas.
+     */
+    public static final class Filtro {
+        private final LocalDate dataInicio;
+        private final LocalDate dataFim;
+        private final String atracao;
+        private final StatusReserva status;
+
+        public Filtro(LocalDate dataInicio, LocalDate dataFim, String atracao, StatusReserva status) {
+            if (dataInicio != null && dataFim != null && dataFim.isBefore(dataInicio)) {
+                throw new IllegalArgumentException("Data final não pode ser anterior à inicial");
+            }
+
+            this.dataInicio = dataInicio;
+            this.dataFim = dataFim;
+            this.atracao = atracao != null && !atracao.isBlank() ? atracao.trim() : null;
+            this.status = status;
+        }
+
+        public static Filtro todas() {
+            return new Filtro(null, null, null, null);
+        }
+
+        public boolean aceita(Reserva reserva) {
+            return aceita(reserva, reserva.getStatus());
+        }
+
+        boolean aceita(Reserva reserva, StatusReserva statusAtual) {
+            if (this.status != null && statusAtual != this.status) {
+                return false;
+            }
+            if (this.atracao != null && !reserva.getAtracao().getNome().trim().equalsIgnoreCase(this.atracao)) {
+                return false;
+            }
+            if (this.dataInicio != null || this.dataFim != null) {
+                LocalDate dia = reserva.getDataHoraCriacao().toLocalDate();
+                if (this.dataInicio != null && dia.isBefore(this.dataInicio)) {
+                    return false;
+                }
+                return this.dataFim == null || !dia.isAfter(this.dataFim);
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "Filtro{" +
+                    "dataInicio=" + dataInicio +
+                    ", dataFim=" + dataFim +
+                    ", atracao='" + atracao + '\'' +
+                    ", status=" + status +
+                    '}';
+        }
+    }
+}
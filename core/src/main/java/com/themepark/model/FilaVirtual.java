@@ -0,0 +1,225 @@
+package com.themepark.model;
+
+import com.themepark.model.datastructures.IntLongHashMap;
+import com.themepark.model.datastructures.TieredQueue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fila virtual de uma atração. Cada fila tem o seu próprio lock, então
+ * operações em filas de atrações diferentes correm em paralelo; o
+ * SistemaParque segura esse lock durante uma operação inteira (fila + reserva).
+ */
+public class FilaVirtual {
+    private final ReentrantLock lock;
+    // Cada entrada da fila carrega a própria reserva, para concluí-la sem buscas ao atender a sessão
+    private TieredQueue<Reserva> fila;
+    // Identificador da entrada de cada visitante (pelo id denso), para consultas de posição em O(log n)
+    private final IntLongHashMap entradas;
+    private final RegistroVisitantes registroVisitantes;
+    private Atracao atracao;
+    private int tempoEsperaMinutos;
+    private LocalTime ultimaSessao;
+
+    public FilaVirtual(Atracao atracao) {
+        this(atracao, new RegistroVisitantes(new ReentrantReadWriteLock()));
+    }
+
+    // Fila de um SistemaParque: os ids dos visitantes vêm do registro do sistema
+    FilaVirtual(Atracao atracao, RegistroVisitantes registroVisitantes) {
+        this.lock = new ReentrantLock();
+        this.registroVisitantes = registroVisitantes;
+        this.atracao = atracao;
+        // Um segmento FIFO por tipo de ingresso (COMUM, PREMIUM, ELITE)
+        this.fila = new TieredQueue<>(TipoIngresso.values().length);
+        this.entradas = new IntLongHashMap(TieredQueue.NO_ENTRY);
+        this.tempoEsperaMinutos = 0;
+        this.ultimaSessao = LocalTime.now();
+    }
+
+    public Atracao getAtracao() {
+        return atracao;
+    }
+
+    public void setAtracao(Atracao atracao) {
+        this.atracao = atracao;
+    }
+
+    public TieredQueue<Reserva> getFila() {
+        return fila;
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    public int getTamanho() {
+        this.lock.lock();
+        try {
+            return fila.getSize();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getTempoEsperaMinutos() {
+        return tempoEsperaMinutos;
+    }
+
+    public void setTempoEsperaMinutos(int tempoEsperaMinutos) {
+        this.tempoEsperaMinutos = tempoEsperaMinutos;
+    }
+
+    public LocalTime getUltimaSessao() {
+        return ultimaSessao;
+    }
+
+    public void setUltimaSessao(LocalTime ultimaSessao) {
+        this.ultimaSessao = ultimaSessao;
+    }
+
+    @Override
+    public String toString() {
+        return "FilaVirtual{" +
+                "atracao=" + atracao.getNome() +
+                ", tamanhoFila=" + fila.getSize() +
+                ", tempoEsperaMinutos=" + tempoEsperaMinutos +
+                ", ultimaSessao=" + ultimaSessao +
+                '}';
+    }
+
+    // CORRIGIDO: Método agora consistente - usa apenas valores numéricos
+    private int convertePrioridadeParaNumero(NivelPrioridade nivel) {
+        switch (nivel) {
+            case PASSE_ELITE:
+                return 3;
+            case PASSE_PREMIUM:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    // CORRIGIDO: Lógica de adição agora completamente consistente
+    public void adicionarReserva(Reserva reserva) {
+        this.lock.lock();
+        try {
+            if (reserva.getAtracao() != this.atracao) {
+                throw new IllegalArgumentException("Reserva não pertence à atração desta fila.");
+            }
+
+            Visitante visitante = reserva.getVisitante();
+            int nivelVisitante = visitante.getTipoIngresso().getNivelPrioridade();
+
+            NivelPrioridade minimoAceitoEnum = this.atracao.getPrioridadeAceita();
+            int nivelMinimo = convertePrioridadeParaNumero(minimoAceitoEnum);
+
+            if (nivelVisitante < nivelMinimo) {
+                throw new IllegalArgumentException("Ingresso (" + visitante.getTipoIngresso() +
+                        ") não atende ao mínimo (" + minimoAceitoEnum + ") para esta fila.");
+            }
+
+            // Entrar na fila é reservar: só aqui o visitante recebe um id, se ainda não tiver
+            int id = visitante.getId(this.registroVisitantes);
+            if (this.entradas.containsKey(id)) {
+                throw new IllegalArgumentException("Visitante já está nesta fila.");
+            }
+
+            // O segmento do nível já preserva a ordem de chegada; os níveis mais altos são atendidos antes
+            long entrada = this.fila.add(nivelParaSegmento(visitante.getTipoIngresso()), reserva);
+            this.entradas.put(id, entrada);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Retorna a reserva da entrada removida, ou null se o visitante não estava na fila
+    public Reserva removerVisitante(Visitante visitante) {
+        this.lock.lock();
+        try {
+            return this.fila.remove(this.entradas.remove(visitante.getIdExistente(this.registroVisitantes)));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Reservas na ordem de atendimento. Sem o lock da fila: só é chamado durante a
+    // captura de um instantâneo, quando nenhuma operação do SistemaParque está em andamento
+    List<Reserva> listarReservasEmOrdem() {
+        return this.fila.toList();
+    }
+
+    public boolean contemVisitante(Visitante visitante) {
+        this.lock.lock();
+        try {
+            return this.entradas.containsKey(visitante.getIdExistente(this.registroVisitantes));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private int nivelParaSegmento(TipoIngresso tipoIngresso) {
+        return tipoIngresso.getNivelPrioridade() - 1;
+    }
+
+    public List<Reserva> atenderProximaSessao() {
+        this.lock.lock();
+        try {
+            int capacidade = this.atracao.getCapacidadePorSessao();
+            List<Reserva> atendidos = new ArrayList<>(Math.min(capacidade, this.fila.getSize()));
+
+            for (int i = 0; i < capacidade; i++) {
+                if (this.fila.isEmpty()) {
+                    break;
+                }
+
+                Reserva atendida = this.fila.removeFirst();
+                this.entradas.remove(atendida.getVisitante().getIdExistente(this.registroVisitantes));
+                atendidos.add(atendida);
+            }
+
+            this.ultimaSessao = LocalTime.now();
+            return atendidos;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int estimarTempoEspera(Visitante v) {
+        this.lock.lock();
+        try {
+            int index = this.fila.getIndexOf(this.entradas.get(v.getIdExistente(this.registroVisitantes)));
+
+            if (index == -1) {
+                return 0;
+            }
+
+            double posicao = index + 1;
+            double capacidade = (double) this.atracao.getCapacidadePorSessao();
+            double tempoSessao = (double) this.atracao.getDuracaoSessaoMinutos();
+            double numSessoes = Math.ceil(posicao / capacidade);
+
+            return (int) (numSessoes * tempoSessao);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int consultarPosicao(Visitante v) {
+        this.lock.lock();
+        try {
+            int index = this.fila.getIndexOf(this.entradas.get(v.getIdExistente(this.registroVisitantes)));
+
+            if (index >= 0) {
+                return index + 1;
+            }
+            return -1;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
\ No newline at end of file
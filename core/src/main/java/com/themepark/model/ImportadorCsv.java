@@ -0,0 +1,399 @@
+package com.themepark.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Importação em massa de visitantes e atrações a partir de arquivos CSV: UTF-8,
+ * um registro por linha, campos separados por vírgula (opcionalmente entre
+ * aspas) e um cabeçalho com os nomes das colunas, em qualquer ordem.
+ *
+ * O arquivo é lido em blocos por um FileChannel. Cada bloco de linhas completas
+ * é convertido e validado numa tarefa do ForkJoinPool, em paralelo com a
+ * leitura dos blocos seguintes; os blocos prontos são cadastrados na ordem do
+ * arquivo, em lote, e a duplicidade de CPF é conferida no próprio índice do
+ * sistema. No máximo duas vezes o paralelismo do pool em blocos fica em memória.
+ */
+public final class ImportadorCsv {
+    public static final List<String> COLUNAS_VISITANTES =
+            List.of("cpf", "nome", "data_nascimento", "email", "tipo_ingresso");
+    // "horarios" é opcional: sessões no formato 10:00-10:20, separadas por ';'
+    public static final List<String> COLUNAS_ATRACOES =
+            List.of("nome", "tipo", "capacidade", "idade_minima", "prioridade");
+    public static final int TAMANHO_BLOCO_PADRAO = 1 << 20;
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final SistemaParque sistema;
+    private final ForkJoinPool pool;
+    private final int tamanhoBloco;
+
+    public ImportadorCsv(SistemaParque sistema) {
+        this(sistema, ForkJoinPool.commonPool(), TAMANHO_BLOCO_PADRAO);
+    }
+
+    public ImportadorCsv(SistemaParque sistema, ForkJoinPool pool, int tamanhoBloco) {
+        if (sistema == null || pool == null) {
+            throw new IllegalArgumentException("Sistema e pool não podem ser nulos");
+        }
+        if (tamanhoBloco <= 0) {
+            throw new IllegalArgumentException("Tamanho do bloco deve ser maior que zero");
+        }
+
+        this.sistema = sistema;
+        this.pool = pool;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    public ResultadoImportacao importarVisitantes(Path arquivo) throws IOException {
+        return importar(arquivo, COLUNAS_VISITANTES, List.of(), ImportadorCsv::converterVisitante,
+                this::cadastrarVisitantes);
+    }
+
+    public ResultadoImportacao importarAtracoes(Path arquivo) throws IOException {
+        return importar(arquivo, COLUNAS_ATRACOES, List.of("horarios"), ImportadorCsv::converterAtracao,
+                this::cadastrarAtracoes);
+    }
+
+    // ========== LEITURA ==========
+
+    private <T> ResultadoImportacao importar(Path arquivo, List<String> obrigatorias, List<String> opcionais,
+                                             Conversor<T> conversor, Cadastro<T> cadastro) throws IOException {
+        long inicio = System.nanoTime();
+        ResultadoImportacao resultado = new ResultadoImportacao();
+        ArrayDeque<ForkJoinTask<Bloco<T>>> pendentes = new ArrayDeque<>();
+        int maximoPendentes = Math.max(2, this.pool.getParallelism() * 2);
+        // Linha do arquivo em que começa o próximo bloco a ser cadastrado
+        int proximaLinha = 2;
+        int[] colunas = null;
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(this.tamanhoBloco);
+            boolean fimArquivo = false;
+
+            while (!fimArquivo) {
+                if (buffer.hasRemaining() && canal.read(buffer) >= 0) {
+                    continue;
+                }
+                fimArquivo = buffer.hasRemaining();
+
+                byte[] dados = buffer.array();
+                int limite = buffer.position();
+                int corte = fimArquivo ? limite : ultimaQuebraDeLinha(dados, limite) + 1;
+
+                if (corte == 0) {
+                    if (fimArquivo) {
+                        break;
+                    }
+                    // Uma linha maior que o buffer inteiro
+                    buffer = ByteBuffer.allocate(dados.length * 2).put(dados, 0, limite);
+                    continue;
+                }
+
+                int inicioDados = 0;
+                if (colunas == null) {
+                    int fimCabecalho = indiceDe(dados, (byte) '\n', 0, corte);
+                    colunas = lerCabecalho(new String(dados, 0, fimCabecalho, StandardCharsets.UTF_8),
+                            obrigatorias, opcionais);
+                    inicioDados = Math.min(fimCabecalho + 1, corte);
+                }
+
+                byte[] bloco = Arrays.copyOfRange(dados, inicioDados, corte);
+                System.arraycopy(dados, corte, dados, 0, limite - corte);
+                buffer.position(limite - corte);
+
+                int[] colunasBloco = colunas;
+                pendentes.addLast(this.pool.submit(() -> converter(bloco, colunasBloco, conversor)));
+
+                if (pendentes.size() >= maximoPendentes) {
+                    proximaLinha = cadastrar(pendentes.removeFirst().join(), proximaLinha, cadastro, resultado);
+                }
+            }
+
+            if (colunas == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio: falta o cabeçalho");
+            }
+
+            while (!pendentes.isEmpty()) {
+                proximaLinha = cadastrar(pendentes.removeFirst().join(), proximaLinha, cadastro, resultado);
+            }
+        } finally {
+            // Só sobra algo aqui depois de um erro: os blocos restantes não são cadastrados
+            for (ForkJoinTask<Bloco<T>> tarefa : pendentes) {
+                tarefa.cancel(false);
+            }
+        }
+
+        resultado.concluir(System.nanoTime() - inicio);
+        return resultado;
+    }
+
+    private static int ultimaQuebraDeLinha(byte[] dados, int limite) {
+        for (int i = limite - 1; i >= 0; i--) {
+            if (dados[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indiceDe(byte[] dados, byte alvo, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            if (dados[i] == alvo) {
+                return i;
+            }
+        }
+        return fim;
+    }
+
+    // Posição de cada coluna esperada na linha: primeiro as obrigatórias, depois as opcionais (-1 se ausente)
+    private static int[] lerCabecalho(String linha, List<String> obrigatorias, List<String> opcionais) {
+        if (!linha.isEmpty() && linha.charAt(0) == '\uFEFF') {
+            linha = linha.substring(1);
+        }
+
+        List<String> nomes = new ArrayList<>();
+        dividirCampos(linha, 0, linha.length(), nomes);
+        for (int i = 0; i < nomes.size(); i++) {
+            nomes.set(i, nomes.get(i).trim().toLowerCase(Locale.ROOT));
+        }
+
+        int[] colunas = new int[obrigatorias.size() + opcionais.size()];
+        for (int i = 0; i < obrigatorias.size(); i++) {
+            colunas[i] = nomes.indexOf(obrigatorias.get(i));
+            if (colunas[i] < 0) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho: " + obrigatorias.get(i));
+            }
+        }
+        for (int i = 0; i < opcionais.size(); i++) {
+            colunas[obrigatorias.size() + i] = nomes.indexOf(opcionais.get(i));
+        }
+        return colunas;
+    }
+
+    // ========== CONVERSÃO (EM PARALELO) ==========
+
+    private static <T> Bloco<T> converter(byte[] dados, int[] colunas, Conversor<T> conversor) {
+        // O corte dos blocos cai sempre num '\n', que nunca aparece no meio de um caractere UTF-8
+        String texto = new String(dados, StandardCharsets.UTF_8);
+        Bloco<T> bloco = new Bloco<>();
+        List<String> campos = new ArrayList<>();
+        int inicio = 0;
+
+        while (inicio < texto.length()) {
+            int fim = texto.indexOf('\n', inicio);
+            if (fim < 0) {
+                fim = texto.length();
+            }
+            int fimConteudo = fim > inicio && texto.charAt(fim - 1) == '\r' ? fim - 1 : fim;
+            int linha = bloco.linhas++;
+
+            if (!emBranco(texto, inicio, fimConteudo)) {
+                bloco.linhasComDados++;
+                campos.clear();
+                dividirCampos(texto, inicio, fimConteudo, campos);
+
+                try {
+                    bloco.itens.add(conversor.converter(campos, colunas));
+                    bloco.linhasItens.add(linha);
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    bloco.rejeitadas.add(new ResultadoImportacao.LinhaRejeitada(linha, e.getMessage()));
+                }
+            }
+            inicio = fim + 1;
+        }
+
+        return bloco;
+    }
+
+    private static boolean emBranco(String texto, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            if (texto.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Separa os campos da linha; um campo entre aspas pode conter vírgulas e "" representa uma aspa
+    private static void dividirCampos(String linha, int inicio, int fim, List<String> campos) {
+        StringBuilder campo = new StringBuilder();
+        int i = inicio;
+
+        while (true) {
+            campo.setLength(0);
+
+            if (i < fim && linha.charAt(i) == '"') {
+                i++;
+                while (i < fim) {
+                    char c = linha.charAt(i++);
+                    if (c != '"') {
+                        campo.append(c);
+                    } else if (i < fim && linha.charAt(i) == '"') {
+                        campo.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                // Ignora o que houver entre a aspa de fechamento e a próxima vírgula
+                while (i < fim && linha.charAt(i) != ',') {
+                    i++;
+                }
+            } else {
+                int virgula = linha.indexOf(',', i);
+                int fimCampo = virgula < 0 || virgula > fim ? fim : virgula;
+                campo.append(linha, i, fimCampo);
+                i = fimCampo;
+            }
+
+            campos.add(campo.toString());
+            if (i >= fim) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    private static String campo(List<String> campos, int coluna) {
+        return coluna >= 0 && coluna < campos.size() ? campos.get(coluna).trim() : "";
+    }
+
+    private static Visitante converterVisitante(List<String> campos, int[] colunas) {
+        String nome = campo(campos, colunas[1]);
+        if (nome.isEmpty()) {
+            throw new IllegalArgumentException("Nome não pode ser vazio");
+        }
+
+        LocalDate dataNascimento;
+        try {
+            dataNascimento = LocalDate.parse(campo(campos, colunas[2]), FORMATO_DATA);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida. Use o formato dd/MM/yyyy");
+        }
+        if (dataNascimento.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Data de nascimento não pode ser futura");
+        }
+
+        TipoIngresso tipoIngresso = lerEnum(TipoIngresso.class, campo(campos, colunas[4]), "Tipo de ingresso inválido");
+
+        return new Visitante(campo(campos, colunas[0]), dataNascimento, campo(campos, colunas[3]), nome,
+                tipoIngresso);
+    }
+
+    private static Atracao converterAtracao(List<String> campos, int[] colunas) {
+        TipoAtracao tipo = lerEnum(TipoAtracao.class, campo(campos, colunas[1]), "Tipo de atração inválido");
+        int capacidade = lerInteiro(campo(campos, colunas[2]), "Capacidade inválida");
+        int idadeMinima = lerInteiro(campo(campos, colunas[3]), "Idade mínima inválida");
+        NivelPrioridade prioridade = lerEnum(NivelPrioridade.class, campo(campos, colunas[4]), "Prioridade inválida");
+
+        Atracao atracao = new Atracao(capacidade, idadeMinima, campo(campos, colunas[0]), tipo, prioridade);
+
+        String horarios = campo(campos, colunas[5]);
+        if (!horarios.isEmpty()) {
+            for (String sessao : horarios.split(";")) {
+                int separador = sessao.indexOf('-');
+                if (separador < 0) {
+                    throw new IllegalArgumentException("Horário inválido: " + sessao.trim() + " (use 10:00-10:20)");
+                }
+                atracao.adicionarHorario(LocalTime.parse(sessao.substring(0, separador).trim()),
+                        LocalTime.parse(sessao.substring(separador + 1).trim()));
+            }
+        }
+
+        return atracao;
+    }
+
+    private static <E extends Enum<E>> E lerEnum(Class<E> tipo, String valor, String mensagem) {
+        try {
+            return Enum.valueOf(tipo, valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(mensagem + ": " + valor);
+        }
+    }
+
+    private static int lerInteiro(String valor, String mensagem) {
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(mensagem + ": " + valor);
+        }
+    }
+
+    // ========== CADASTRO (NA ORDEM DO ARQUIVO) ==========
+
+    // Cadastra o bloco e retorna a linha do arquivo em que começa o bloco seguinte
+    private static <T> int cadastrar(Bloco<T> bloco, int primeiraLinha, Cadastro<T> cadastro,
+                                     ResultadoImportacao resultado) {
+        resultado.registrarLinhas(bloco.linhasComDados);
+        for (ResultadoImportacao.LinhaRejeitada rejeitada : bloco.rejeitadas) {
+            resultado.registrarRejeitada(primeiraLinha + rejeitada.getLinha(), rejeitada.getMotivo());
+        }
+
+        if (!bloco.itens.isEmpty()) {
+            cadastro.cadastrar(bloco, primeiraLinha, resultado);
+        }
+        return primeiraLinha + bloco.linhas;
+    }
+
+    private void cadastrarVisitantes(Bloco<Visitante> bloco, int primeiraLinha, ResultadoImportacao resultado) {
+        boolean[] cadastrados = this.sistema.cadastrarVisitantes(bloco.itens);
+
+        for (int i = 0; i < cadastrados.length; i++) {
+            if (cadastrados[i]) {
+                resultado.registrarImportado();
+            } else {
+                resultado.registrarRejeitada(primeiraLinha + bloco.linhasItens.get(i), "Visitante já cadastrado");
+            }
+        }
+    }
+
+    // Atrações são poucas: uma a uma, com a verificação de nome do próprio cadastro
+    private void cadastrarAtracoes(Bloco<Atracao> bloco, int primeiraLinha, ResultadoImportacao resultado) {
+        for (int i = 0; i < bloco.itens.size(); i++) {
+            try {
+                this.sistema.cadastrarAtracao(bloco.itens.get(i));
+                resultado.registrarImportado();
+            } catch (IllegalArgumentException e) {
+                resultado.registrarRejeitada(primeiraLinha + bloco.linhasItens.get(i), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Linhas de um bloco já convertidas; os números de linha são relativos ao
+     * início do bloco, que só é conhecido quando os blocos anteriores terminam.
+     */
+    private static final class Bloco<T> {
+        private final List<T> itens = new ArrayList<>();
+        private final List<Integer> linhasItens = new ArrayList<>();
+        private final List<ResultadoImportacao.LinhaRejeitada> rejeitadas = new ArrayList<>();
+        private int linhas;
+        private int linhasComDados;
+    }
+
+    @FunctionalInterface
+    private interface Conversor<T> {
+        T converter(List<String> campos, int[] colunas);
+    }
+
+    @FunctionalInterface
+    private interface Cadastro<T> {
+        void cadastrar(Bloco<T> bloco, int primeiraLinha, ResultadoImportacao resultado);
+    }
+}
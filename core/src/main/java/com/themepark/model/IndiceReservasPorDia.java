@@ -0,0 +1,366 @@
+package com.themepark.model;
+
+import com.themepark.model.datastructures.LinkedList;
+import com.themepark.model.datastructures.SpaceSavingCounter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Índice das reservas particionado pelo dia de criação. Consultas de um dia
+ * (ou de um intervalo de horas dentro dele) tocam apenas a partição daquele
+ * dia, e um dia inteiro pode ser descartado em O(1).
+ *
+ * Dentro do dia, as reservas ficam separadas por atração: o registro de uma
+ * reserva só trava a lista da própria atração (que o SistemaParque já
+ * acessa sob o lock da fila dela) e uma das faixas dos contadores de
+ * visitantes, então entradas em atrações diferentes não disputam o índice.
+ * A contagem por atração é exata; os visitantes mais ativos vêm de contadores
+ * Space-Saving, um por faixa, e a capacidade deles define até quantas chaves
+ * distintas por faixa a contagem é exata.
+ *
+ * Uma partição só sai do índice por {@link #descartarDia(LocalDate)}; uma
+ * reserva registrada ao mesmo tempo que o descarte do seu dia pode se perder
+ * junto com ele.
+ */
+public class IndiceReservasPorDia {
+    private static final int HORAS_DIA = 24;
+    // Faixas dos contadores de visitantes de cada dia (potência de 2)
+    private static final int FAIXAS_VISITANTES = 16;
+
+    private final Map<LocalDate, ParticaoDia> particoes;
+    // Quando ativo, cada partição também guarda as reservas separadas por hora
+    private final boolean subdivisaoHoraria;
+    private final int capacidadeRanking;
+
+    public IndiceReservasPorDia(boolean subdivisaoHoraria, int capacidadeRanking) {
+        if (capacidadeRanking <= 0) {
+            throw new IllegalArgumentException("Capacidade do ranking deve ser maior que zero");
+        }
+
+        this.particoes = new ConcurrentHashMap<>();
+        this.subdivisaoHoraria = subdivisaoHoraria;
+        this.capacidadeRanking = capacidadeRanking;
+    }
+
+    public void registrar(Reserva reserva) {
+        LocalDateTime criacao = reserva.getDataHoraCriacao();
+        ParticaoDia particao = this.particoes.computeIfAbsent(criacao.toLocalDate(),
+                dia -> new ParticaoDia(this.capacidadeRanking));
+
+        particao.adicionar(reserva, criacao.getHour(), this.subdivisaoHoraria);
+    }
+
+    public int contarReservasDia(LocalDate dia) {
+        ParticaoDia particao = this.particoes.get(dia);
+        if (particao == null) {
+            return 0;
+        }
+
+        int total = 0;
+        for (ReservasAtracao daAtracao : particao.porAtracao.values()) {
+            total += daAtracao.contar();
+        }
+        return total;
+    }
+
+    public Atracao obterAtracaoMaisDisputada(LocalDate dia) {
+        List<Atracao> top = obterAtracoesMaisDisputadas(dia, 1);
+        return top.isEmpty() ? null : top.get(0);
+    }
+
+    // Empates são desfeitos pelo nome da atração
+    public List<Atracao> obterAtracoesMaisDisputadas(LocalDate dia, int k) {
+        ParticaoDia particao = this.particoes.get(dia);
+        if (particao == null) {
+            return new ArrayList<>();
+        }
+
+        List<Map.Entry<Atracao, Integer>> contagens = new ArrayList<>();
+        for (Map.Entry<Atracao, ReservasAtracao> entrada : particao.porAtracao.entrySet()) {
+            contagens.add(Map.entry(entrada.getKey(), entrada.getValue().contar()));
+        }
+        contagens.sort(Map.Entry.<Atracao, Integer>comparingByValue().reversed()
+                .thenComparing(entrada -> entrada.getKey().getNome()));
+
+        List<Atracao> top = new ArrayList<>(Math.min(k, contagens.size()));
+        for (int i = 0; i < k && i < contagens.size(); i++) {
+            top.add(contagens.get(i).getKey());
+        }
+        return top;
+    }
+
+    public Visitante obterVisitanteMaisAtivo(LocalDate dia) {
+        List<Visitante> top = obterVisitantesMaisAtivos(dia, 1);
+        return top.isEmpty() ? null : top.get(0);
+    }
+
+    // Cada visitante é contado numa faixa só: os k primeiros saem dos k primeiros de cada faixa
+    public List<Visitante> obterVisitantesMaisAtivos(LocalDate dia, int k) {
+        ParticaoDia particao = this.particoes.get(dia);
+        if (particao == null) {
+            return new ArrayList<>();
+        }
+
+        List<Map.Entry<Visitante, Long>> candidatos = new ArrayList<>();
+        for (SpaceSavingCounter<Visitante> ranking : particao.rankingVisitantes) {
+            synchronized (ranking) {
+                for (Visitante visitante : ranking.getTop(k)) {
+                    candidatos.add(Map.entry(visitante, ranking.getCount(visitante)));
+                }
+            }
+        }
+        candidatos.sort(Map.Entry.<Visitante, Long>comparingByValue().reversed());
+
+        List<Visitante> top = new ArrayList<>(Math.min(k, candidatos.size()));
+        for (int i = 0; i < k && i < candidatos.size(); i++) {
+            top.add(candidatos.get(i).getKey());
+        }
+        return top;
+    }
+
+    /**
+     * Conta as reservas criadas no dia entre horaInicio (inclusive) e horaFim (exclusive)
+     */
+    public int contarReservasIntervalo(LocalDate dia, int horaInicio, int horaFim) {
+        validarIntervalo(horaInicio, horaFim);
+
+        ParticaoDia particao = this.particoes.get(dia);
+        if (particao == null) {
+            return 0;
+        }
+
+        int total = 0;
+        for (ReservasAtracao daAtracao : particao.porAtracao.values()) {
+            total += daAtracao.contarIntervalo(horaInicio, horaFim);
+        }
+        return total;
+    }
+
+    /**
+     * Retorna as reservas criadas no dia entre horaInicio (inclusive) e horaFim
+     * (exclusive), em ordem de criação
+     */
+    public List<Reserva> obterReservasIntervalo(LocalDate dia, int horaInicio, int horaFim) {
+        validarIntervalo(horaInicio, horaFim);
+
+        List<Reserva> resultado = new ArrayList<>();
+        ParticaoDia particao = this.particoes.get(dia);
+        if (particao == null) {
+            return resultado;
+        }
+
+        for (ReservasAtracao daAtracao : particao.porAtracao.values()) {
+            daAtracao.copiarIntervalo(horaInicio, horaFim, resultado);
+        }
+        resultado.sort(Comparator.comparingInt(Reserva::getId));
+        return resultado;
+    }
+
+    /**
+     * Reservas criadas entre os dias inicio e fim (inclusivos; null deixa o lado
+     * aberto), dia a dia e, dentro de cada dia, em ordem de id. Só as partições do
+     * intervalo são lidas; as reservas de uma partição são as que existiam quando
+     * o stream chegou a ela.
+     */
+    public Stream<Reserva> streamReservas(LocalDate inicio, LocalDate fim) {
+        List<LocalDate> dias = new ArrayList<>();
+        for (LocalDate dia : this.particoes.keySet()) {
+            if ((inicio == null || !dia.isBefore(inicio)) && (fim == null || !dia.isAfter(fim))) {
+                dias.add(dia);
+            }
+        }
+        dias.sort(null);
+
+        return dias.stream().flatMap(dia -> {
+            ParticaoDia particao = this.particoes.get(dia);
+            return particao != null ? particao.streamEmOrdem() : Stream.empty();
+        });
+    }
+
+    /**
+     * Remove a partição inteira de um dia (por exemplo, dias antigos já arquivados)
+     */
+    public boolean descartarDia(LocalDate dia) {
+        return this.particoes.remove(dia) != null;
+    }
+
+    public int getTotalDiasIndexados() {
+        return this.particoes.size();
+    }
+
+    public boolean isSubdivisaoHoraria() {
+        return subdivisaoHoraria;
+    }
+
+    public int getCapacidadeRanking() {
+        return capacidadeRanking;
+    }
+
+    private static void validarIntervalo(int horaInicio, int horaFim) {
+        if (horaInicio < 0 || horaFim > HORAS_DIA || horaInicio > horaFim) {
+            throw new IllegalArgumentException("Intervalo de horas inválido: " + horaInicio + " a " + horaFim);
+        }
+    }
+
+    private static final class ParticaoDia {
+        private final Map<Atracao, ReservasAtracao> porAtracao;
+        // Cada contador é protegido pelo próprio monitor
+        private final SpaceSavingCounter<Visitante>[] rankingVisitantes;
+
+        @SuppressWarnings("unchecked")
+        private ParticaoDia(int capacidadeRanking) {
+            this.porAtracao = new ConcurrentHashMap<>();
+            this.rankingVisitantes = (SpaceSavingCounter<Visitante>[]) new SpaceSavingCounter<?>[FAIXAS_VISITANTES];
+            for (int i = 0; i < FAIXAS_VISITANTES; i++) {
+                this.rankingVisitantes[i] = new SpaceSavingCounter<>(capacidadeRanking);
+            }
+        }
+
+        // Cada atração recebe as suas reservas em ordem de id (sob o lock da fila); basta intercalá-las
+        private Stream<Reserva> streamEmOrdem() {
+            List<Iterator<Reserva>> porAtracao = new ArrayList<>(this.porAtracao.size());
+            for (ReservasAtracao daAtracao : this.porAtracao.values()) {
+                porAtracao.add(Spliterators.iterator(daAtracao.spliterator()));
+            }
+
+            Iterator<Reserva> intercaladas = porAtracao.size() == 1 ? porAtracao.get(0) : new Intercalacao(porAtracao);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(intercaladas,
+                    Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+
+        private void adicionar(Reserva reserva, int hora, boolean subdivisaoHoraria) {
+            this.porAtracao.computeIfAbsent(reserva.getAtracao(), a -> new ReservasAtracao(subdivisaoHoraria))
+                    .adicionar(reserva, hora);
+
+            Visitante visitante = reserva.getVisitante();
+            int h = visitante.hashCode();
+            SpaceSavingCounter<Visitante> ranking = this.rankingVisitantes[(h ^ (h >>> 16)) & (FAIXAS_VISITANTES - 1)];
+            synchronized (ranking) {
+                ranking.offer(visitante);
+            }
+        }
+    }
+
+    /**
+     * Reservas de uma atração num dia, na ordem em que foram registradas
+     */
+    private static final class ReservasAtracao {
+        private final LinkedList<Reserva> reservas;
+        private final int[] contagemPorHora;
+        private final LinkedList<Reserva>[] reservasPorHora;
+
+        @SuppressWarnings("unchecked")
+        private ReservasAtracao(boolean subdivisaoHoraria) {
+            this.reservas = new LinkedList<>();
+            this.contagemPorHora = new int[HORAS_DIA];
+            this.reservasPorHora = subdivisaoHoraria ? (LinkedList<Reserva>[]) new LinkedList<?>[HORAS_DIA] : null;
+        }
+
+        private synchronized void adicionar(Reserva reserva, int hora) {
+            this.reservas.addLast(reserva);
+            this.contagemPorHora[hora]++;
+
+            if (this.reservasPorHora != null) {
+                if (this.reservasPorHora[hora] == null) {
+                    this.reservasPorHora[hora] = new LinkedList<>();
+                }
+                this.reservasPorHora[hora].addLast(reserva);
+            }
+        }
+
+        // Percurso das reservas registradas até aqui; a lista só cresce, então ele pode seguir fora do lock
+        private synchronized Spliterator<Reserva> spliterator() {
+            return this.reservas.spliterator();
+        }
+
+        private synchronized int contar() {
+            return this.reservas.getSize();
+        }
+
+        private synchronized int contarIntervalo(int horaInicio, int horaFim) {
+            int total = 0;
+            for (int hora = horaInicio; hora < horaFim; hora++) {
+                total += this.contagemPorHora[hora];
+            }
+            return total;
+        }
+
+        private synchronized void copiarIntervalo(int horaInicio, int horaFim, List<Reserva> destino) {
+            if (this.reservasPorHora != null) {
+                for (int hora = horaInicio; hora < horaFim; hora++) {
+                    if (this.reservasPorHora[hora] != null) {
+                        this.reservasPorHora[hora].forEach(destino::add);
+                    }
+                }
+                return;
+            }
+
+            for (Reserva reserva : this.reservas) {
+                int hora = reserva.getDataHoraCriacao().getHour();
+                if (hora >= horaInicio && hora < horaFim) {
+                    destino.add(reserva);
+                }
+            }
+        }
+    }
+
+    /**
+     * Intercala sequências já ordenadas por id, olhando só o primeiro elemento de cada uma
+     */
+    private static final class Intercalacao implements Iterator<Reserva> {
+        private final PriorityQueue<Cabeca> cabecas;
+
+        private Intercalacao(List<Iterator<Reserva>> sequencias) {
+            this.cabecas = new PriorityQueue<>(Math.max(1, sequencias.size()),
+                    Comparator.comparingInt(cabeca -> cabeca.atual.getId()));
+            for (Iterator<Reserva> sequencia : sequencias) {
+                if (sequencia.hasNext()) {
+                    this.cabecas.add(new Cabeca(sequencia.next(), sequencia));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.cabecas.isEmpty();
+        }
+
+        @Override
+        public Reserva next() {
+            Cabeca menor = this.cabecas.poll();
+            if (menor == null) {
+                throw new NoSuchElementException();
+            }
+
+            Reserva reserva = menor.atual;
+            if (menor.resto.hasNext()) {
+                menor.atual = menor.resto.next();
+                this.cabecas.add(menor);
+            }
+            return reserva;
+        }
+
+        private static final class Cabeca {
+            private Reserva atual;
+            private final Iterator<Reserva> resto;
+
+            private Cabeca(Reserva atual, Iterator<Reserva> resto) {
+                this.atual = atual;
+                this.resto = resto;
+            }
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.themepark.model;
+
+import com.themepark.persistencia.SaidaMapeada;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Cópia do estado do {@link SistemaParque} num ponto do diário, gravada num
+ * arquivo binário através de memória mapeada. Na reinicialização, o arquivo é
+ * mapeado e o sistema é reconstruído direto dele; só os registros do diário
+ * posteriores ao ponto de corte precisam ser reaplicados.
+ *
+ * Atrações e visitantes removidos do cadastro, mas ainda referenciados por
+ * reservas, também são gravados, depois dos cadastrados.
+ */
+final class InstantaneoParque {
+    private static final int ASSINATURA = 0x54504B49;
+    // Versão do layout do arquivo; os campos seguem a versão do CodecParque, gravada ao lado
+    private static final int VERSAO = 2;
+    private static final int FIM = ~ASSINATURA;
+    private static final int TAMANHO_BLOCO = 64 * 1024;
+
+    private final long posicaoDiario;
+    private final int proximoIdReserva;
+    // Os primeiros atracoesCadastradas (e visitantesCadastrados) estão no cadastro
+    private final List<Atracao> atracoes;
+    private final int atracoesCadastradas;
+    private final List<Visitante> visitantes;
+    private final int visitantesCadastrados;
+    // Status e conclusão copiados na captura: a reserva continua mudando depois dela
+    private final List<Reserva> reservas;
+    private final StatusReserva[] status;
+    private final LocalDateTime[] conclusoes;
+    // Por atração cadastrada, os índices das reservas na ordem de atendimento
+    private final int[][] filas;
+
+    private InstantaneoParque(long posicaoDiario, int proximoIdReserva,
+                              List<Atracao> atracoes, int atracoesCadastradas,
+                              List<Visitante> visitantes, int visitantesCadastrados,
+                              List<Reserva> reservas, StatusReserva[] status, LocalDateTime[] conclusoes,
+                              int[][] filas) {
+        this.posicaoDiario = posicaoDiario;
+        this.proximoIdReserva = proximoIdReserva;
+        this.atracoes = atracoes;
+        this.atracoesCadastradas = atracoesCadastradas;
+        this.visitantes = visitantes;
+        this.visitantesCadastrados = visitantesCadastrados;
+        this.reservas = reservas;
+        this.status = status;
+        this.conclusoes = conclusoes;
+        this.filas = filas;
+    }
+
+    // ========== CAPTURA ==========
+
+    /**
+     * Lê, com as operações pausadas, só o que não dá para reconstruir depois:
+     * os cadastros, o conteúdo das filas, um percurso do histórico de reservas
+     * (que só cresce, então a cabeça e o tamanho bastam) e a ordem da última
+     * finalização. Chamado sob a barreira de instantâneo do sistema.
+     */
+    static Captura capturar(SistemaParque sistema, long posicaoDiario) {
+        List<Atracao> atracoes = sistema.listarAtracoes();
+        List<Visitante> visitantes = sistema.listarVisitantes();
+
+        List<List<Reserva>> filas = new ArrayList<>(atracoes.size());
+        for (Atracao atracao : atracoes) {
+            filas.add(sistema.obterFilaVirtual(atracao).listarReservasEmOrdem());
+        }
+
+        return new Captura(posicaoDiario, Reserva.getProximoId(), Reserva.getUltimaFinalizacao(),
+                atracoes, visitantes, sistema.streamReservas(), filas);
+    }
+
+    static final class Captura {
+        private final long posicaoDiario;
+        private final int proximoIdReserva;
+        private final long ultimaFinalizacao;
+        private final List<Atracao> atracoes;
+        private final List<Visitante> visitantes;
+        private final Stream<Reserva> reservas;
+        private final List<List<Reserva>> filas;
+
+        private Captura(long posicaoDiario, int proximoIdReserva, long ultimaFinalizacao,
+                        List<Atracao> atracoes, List<Visitante> visitantes,
+                        Stream<Reserva> reservas, List<List<Reserva>> filas) {
+            this.posicaoDiario = posicaoDiario;
+            this.proximoIdReserva = proximoIdReserva;
+            this.ultimaFinalizacao = ultimaFinalizacao;
+            this.atracoes = atracoes;
+            this.visitantes = visitantes;
+            this.reservas = reservas;
+            this.filas = filas;
+        }
+
+        /**
+         * Indexa e copia os status com as operações já liberadas. Uma reserva
+         * finalizada depois da captura volta a ser ativa aqui, como estava nela.
+         */
+        InstantaneoParque montar() {
+            List<Atracao> atracoes = this.atracoes;
+            int atracoesCadastradas = atracoes.size();
+            List<Visitante> visitantes = this.visitantes;
+            int visitantesCadastrados = visitantes.size();
+            List<Reserva> reservas = this.reservas.toList();
+
+            Map<Atracao, Integer> indiceAtracoes = indexar(atracoes);
+            Map<Visitante, Integer> indiceVisitantes = indexar(visitantes);
+            Map<Reserva, Integer> indiceReservas = indexar(reservas);
+            StatusReserva[] status = new StatusReserva[reservas.size()];
+            LocalDateTime[] conclusoes = new LocalDateTime[reservas.size()];
+
+            for (int i = 0; i < reservas.size(); i++) {
+                Reserva reserva = reservas.get(i);
+                indiceOuNovo(indiceAtracoes, atracoes, reserva.getAtracao());
+                indiceOuNovo(indiceVisitantes, visitantes, reserva.getVisitante());
+
+                if (reserva.finalizadaAte(this.ultimaFinalizacao)) {
+                    status[i] = reserva.getStatus();
+                    conclusoes[i] = reserva.getDataHoraConclusao();
+                } else {
+                    status[i] = StatusReserva.ATIVA;
+                }
+            }
+
+            int[][] filas = new int[atracoesCadastradas][];
+            for (int i = 0; i < atracoesCadastradas; i++) {
+                List<Reserva> naFila = this.filas.get(i);
+                filas[i] = new int[naFila.size()];
+                for (int j = 0; j < naFila.size(); j++) {
+                    filas[i][j] = indiceReservas.get(naFila.get(j));
+                }
+            }
+
+            return new InstantaneoParque(this.posicaoDiario, this.proximoIdReserva,
+                    atracoes, atracoesCadastradas, visitantes, visitantesCadastrados,
+                    reservas, status, conclusoes, filas);
+        }
+    }
+
+    private static <T> Map<T, Integer> indexar(List<T> elementos) {
+        Map<T, Integer> indice = new IdentityHashMap<>(elementos.size() * 2);
+        for (int i = 0; i < elementos.size(); i++) {
+            indice.put(elementos.get(i), i);
+        }
+        return indice;
+    }
+
+    private static <T> int indiceOuNovo(Map<T, Integer> indice, List<T> elementos, T elemento) {
+        Integer posicao = indice.get(elemento);
+        if (posicao == null) {
+            posicao = elementos.size();
+            elementos.add(elemento);
+            indice.put(elemento, posicao);
+        }
+        return posicao;
+    }
+
+    // ========== GRAVAÇÃO ==========
+
+    /**
+     * Grava num arquivo temporário e o renomeia sobre o anterior, que continua
+     * válido até a troca. O dicionário de atrações vai junto, para que o
+     * trecho do diário posterior ao corte possa ser lido na reinicialização.
+     */
+    void gravar(Path arquivo, CodecParque codec) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        long estimativa = 4096L + 64L * (this.atracoes.size() + this.visitantes.size() + this.reservas.size());
+
+        try (SaidaMapeada saida = new SaidaMapeada(temporario, (int) Math.min(estimativa, 1 << 30))) {
+            escrever(saida, codec);
+            saida.concluir();
+        }
+
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        sincronizarDiretorio(arquivo.toAbsolutePath().getParent());
+    }
+
+    // Codifica em blocos num buffer do codec e os copia para a janela mapeada
+    private void escrever(SaidaMapeada arquivo, CodecParque codec) throws IOException {
+        Map<Atracao, Integer> indiceAtracoes = indexar(this.atracoes);
+        Map<Visitante, Integer> indiceVisitantes = indexar(this.visitantes);
+        CodecParque.Saida saida = new CodecParque.Saida(TAMANHO_BLOCO + 1024);
+
+        saida.escreverInt(ASSINATURA);
+        saida.escreverInt(VERSAO);
+        saida.escreverInt(CodecParque.VERSAO);
+        saida.escreverLong(this.posicaoDiario);
+        saida.escreverInt(this.proximoIdReserva);
+        codec.escreverDicionario(saida);
+
+        saida.escreverVarInt(this.atracoes.size());
+        saida.escreverVarInt(this.atracoesCadastradas);
+        for (Atracao atracao : this.atracoes) {
+            codec.escreverAtracao(saida, atracao);
+            descarregarSeCheio(saida, arquivo);
+        }
+
+        saida.escreverVarInt(this.visitantes.size());
+        saida.escreverVarInt(this.visitantesCadastrados);
+        for (Visitante visitante : this.visitantes) {
+            codec.escreverVisitante(saida, visitante);
+            descarregarSeCheio(saida, arquivo);
+        }
+
+        // Visitante e atração pelo índice nas tabelas acima: objetos diferentes podem ter o mesmo CPF ou nome
+        saida.escreverVarInt(this.reservas.size());
+        for (int i = 0; i < this.reservas.size(); i++) {
+            Reserva reserva = this.reservas.get(i);
+            saida.escreverVarInt(reserva.getId());
+            saida.escreverVarInt(indiceVisitantes.get(reserva.getVisitante()));
+            saida.escreverVarInt(indiceAtracoes.get(reserva.getAtracao()));
+            CodecParque.escreverDataHora(saida, reserva.getDataHoraCriacao());
+
+            HorarioSessao horario = reserva.getHorarioEscolhido();
+            saida.escreverByte(horario != null ? 1 : 0);
+            if (horario != null) {
+                CodecParque.escreverHorario(saida, horario);
+            }
+
+            CodecParque.escreverEnum(saida, this.status[i]);
+            if (this.status[i] != StatusReserva.ATIVA) {
+                CodecParque.escreverDataHora(saida, this.conclusoes[i]);
+            }
+            descarregarSeCheio(saida, arquivo);
+        }
+
+        saida.escreverVarInt(this.filas.length);
+        for (int[] fila : this.filas) {
+            saida.escreverVarInt(fila.length);
+            for (int indiceReserva : fila) {
+                saida.escreverVarInt(indiceReserva);
+                descarregarSeCheio(saida, arquivo);
+            }
+        }
+
+        saida.escreverInt(FIM);
+        arquivo.escrever(saida.getBytes(), 0, saida.getTamanho());
+    }
+
+    private static void descarregarSeCheio(CodecParque.Saida saida, SaidaMapeada arquivo) throws IOException {
+        if (saida.getTamanho() >= TAMANHO_BLOCO) {
+            arquivo.escrever(saida.getBytes(), 0, saida.getTamanho());
+            saida.limpar();
+        }
+    }
+
+    // Sem isto, a renomeação pode não sobreviver a uma queda mesmo com o arquivo forçado
+    private static void sincronizarDiretorio(Path diretorio) {
+        if (diretorio == null) {
+            return;
+        }
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // Nem todo sistema de arquivos permite abrir diretórios; a troca já foi feita
+        }
+    }
+
+    // ========== LEITURA ==========
+
+    /**
+     * Mapeia o arquivo e decodifica o instantâneo, sem alterar nenhum sistema.
+     * O dicionário de atrações gravado é carregado em {@code codec}.
+     */
+    static InstantaneoParque ler(Path arquivo, CodecParque codec) throws IOException {
+        MappedByteBuffer dados;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Instantâneo maior que 2 GiB: " + arquivo);
+            }
+            dados = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+
+        try {
+            return decodificar(dados, codec);
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException
+                 | IndexOutOfBoundsException e) {
+            throw new IOException("Instantâneo corrompido: " + arquivo, e);
+        }
+    }
+
+    private static InstantaneoParque decodificar(ByteBuffer dados, CodecParque codec) throws IOException {
+        if (dados.getInt() != ASSINATURA) {
+            throw new IOException("Arquivo não é um instantâneo do parque");
+        }
+        int versao = dados.getInt();
+        int versaoCodec = dados.getInt();
+        if (versao != VERSAO || versaoCodec != CodecParque.VERSAO) {
+            throw new IOException("Versão de instantâneo não suportada: " + versao + "/" + versaoCodec);
+        }
+
+        long posicaoDiario = dados.getLong();
+        int proximoIdReserva = dados.getInt();
+        codec.lerDicionario(dados);
+
+        int totalAtracoes = CodecParque.lerVarInt(dados);
+        int atracoesCadastradas = CodecParque.lerVarInt(dados);
+        List<Atracao> atracoes = new ArrayList<>(totalAtracoes);
+        for (int i = 0; i < totalAtracoes; i++) {
+            atracoes.add(codec.lerAtracao(dados));
+        }
+
+        int totalVisitantes = CodecParque.lerVarInt(dados);
+        int visitantesCadastrados = CodecParque.lerVarInt(dados);
+        List<Visitante> visitantes = new ArrayList<>(totalVisitantes);
+        for (int i = 0; i < totalVisitantes; i++) {
+            visitantes.add(codec.lerVisitante(dados));
+        }
+
+        int totalReservas = CodecParque.lerVarInt(dados);
+        List<Reserva> reservas = new ArrayList<>(totalReservas);
+        StatusReserva[] status = new StatusReserva[totalReservas];
+        LocalDateTime[] conclusoes = new LocalDateTime[totalReservas];
+        for (int i = 0; i < totalReservas; i++) {
+            int id = CodecParque.lerVarInt(dados);
+            Visitante visitante = visitantes.get(CodecParque.lerVarInt(dados));
+            Atracao atracao = atracoes.get(CodecParque.lerVarInt(dados));
+            LocalDateTime criacao = CodecParque.lerDataHora(dados);
+            HorarioSessao horario = dados.get() != 0 ? CodecParque.lerHorario(dados) : null;
+            reservas.add(new Reserva(id, visitante, atracao, horario, criacao));
+
+            status[i] = CodecParque.lerEnum(dados, StatusReserva.values());
+            if (status[i] != StatusReserva.ATIVA) {
+                conclusoes[i] = CodecParque.lerDataHora(dados);
+            }
+        }
+
+        int[][] filas = new int[CodecParque.lerVarInt(dados)][];
+        if (filas.length != atracoesCadastradas) {
+            throw new IOException("Instantâneo com filas inconsistentes");
+        }
+        for (int i = 0; i < filas.length; i++) {
+            filas[i] = new int[CodecParque.lerVarInt(dados)];
+            for (int j = 0; j < filas[i].length; j++) {
+                filas[i][j] = CodecParque.lerVarInt(dados);
+            }
+        }
+
+        if (dados.getInt() != FIM) {
+            throw new IOException("Instantâneo incompleto");
+        }
+
+        return new InstantaneoParque(posicaoDiario, proximoIdReserva,
+                atracoes, atracoesCadastradas, visitantes, visitantesCadastrados,
+                reservas, status, conclusoes, filas);
+    }
+
+    // ========== RESTAURAÇÃO ==========
+
+    /**
+     * Reconstrói o estado num sistema vazio, antes de um diário ser anexado a ele
+     */
+    void restaurar(SistemaParque sistema) {
+        if (sistema.contarAtracoes() > 0 || sistema.contarVisitantes() > 0
+                || sistema.contarReservas() > 0) {
+            throw new IllegalStateException("Instantâneo só pode ser carregado num sistema vazio");
+        }
+
+        for (int i = 0; i < this.atracoesCadastradas; i++) {
+            sistema.cadastrarAtracao(this.atracoes.get(i));
+        }
+        for (int i = 0; i < this.visitantesCadastrados; i++) {
+            sistema.cadastrarVisitante(this.visitantes.get(i));
+        }
+
+        for (int i = 0; i < this.reservas.size(); i++) {
+            sistema.restaurarReserva(this.reservas.get(i), this.status[i], this.conclusoes[i]);
+        }
+        for (int[] fila : this.filas) {
+            for (int indiceReserva : fila) {
+                sistema.restaurarNaFila(this.reservas.get(indiceReserva));
+            }
+        }
+
+        Reserva.avancarProximoId(this.proximoIdReserva);
+    }
+
+    // Visitantes removidos do cadastro que ainda têm reservas; o diário pode voltar a referenciá-los
+    List<Visitante> listarVisitantesForaDoCadastro() {
+        return this.visitantes.subList(this.visitantesCadastrados, this.visitantes.size());
+    }
+
+    // Posição do diário a partir da qual os registros ainda não estão no instantâneo
+    long getPosicaoDiario() {
+        return posicaoDiario;
+    }
+
+    @Override
+    public String toString() {
+        return "InstantaneoParque{" +
+                "posicaoDiario=" + posicaoDiario +
+                ", atracoes=" + atracoes.size() +
+                ", visitantes=" + visitantes.size() +
+                ", reservas=" + reservas.size() +
+                '}';
+    }
+}
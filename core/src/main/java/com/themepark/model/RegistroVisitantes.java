@@ -0,0 +1,83 @@
+package com.themepark.model;
+
+import com.themepark.model.datastructures.LongIntHashMap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Ids inteiros densos (0, 1, 2, ...) dos visitantes de um sistema, um por CPF:
+ * o mesmo CPF, com ou sem pontuação, recebe sempre o mesmo id. Filas e índices
+ * guardam o id em estruturas primitivas em vez da referência ao visitante; o
+ * CPF só é consultado aqui, uma vez por objeto (o Visitante guarda o id junto
+ * com a geração do registro que o atribuiu).
+ *
+ * Ids só são criados no cadastro e na primeira reserva ({@link #idDaChave});
+ * consultas usam {@link #idExistente} e não fazem o registro crescer. O mapa é
+ * protegido pelo lock de visitantes do sistema dono.
+ *
+ * Cada SistemaParque tem o seu registro, que vive tanto quanto ele. Os ids não
+ * são reaproveitados: um visitante removido continua nas filas e no histórico
+ * de reservas, que são indexados por eles.
+ */
+final class RegistroVisitantes {
+    static final int SEM_ID = -1;
+
+    // Geração 0 fica para "nenhum id atribuído" no Visitante
+    private static final AtomicInteger geracoes = new AtomicInteger();
+
+    private final int geracao;
+    private final ReadWriteLock lock;
+    private final LongIntHashMap idsPorCpf;
+    private int proximoId;
+
+    RegistroVisitantes(ReadWriteLock lock) {
+        this.geracao = geracoes.incrementAndGet();
+        this.lock = lock;
+        this.idsPorCpf = new LongIntHashMap(SEM_ID);
+    }
+
+    // Id da chave (Visitante.chaveCpf do CPF), criado se ainda não existir
+    int idDaChave(long chave) {
+        int id = idExistente(chave);
+        if (id != SEM_ID) {
+            return id;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            id = this.idsPorCpf.get(chave);
+            if (id == SEM_ID) {
+                id = this.proximoId++;
+                this.idsPorCpf.put(chave, id);
+            }
+            return id;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Id já atribuído à chave, ou SEM_ID
+    int idExistente(long chave) {
+        this.lock.readLock().lock();
+        try {
+            return this.idsPorCpf.get(chave);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Quantidade de ids já atribuídos: todo id é menor que este valor
+    int getQuantidadeIds() {
+        this.lock.readLock().lock();
+        try {
+            return this.proximoId;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    int getGeracao() {
+        return geracao;
+    }
+}
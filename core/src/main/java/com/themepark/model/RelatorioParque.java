@@ -0,0 +1,122 @@
+package com.themepark.model;
+
+import java.time.LocalDate;
+
+/**
+ * Fotografia dos números do parque em um instante, gerada por
+ * {@link Estatisticas#gerarRelatorio()}. A versão em texto é produzida a
+ * partir destes valores, sem consultar o sistema novamente.
+ */
+public class RelatorioParque {
+    private final LocalDate dataReferencia;
+
+    private final int totalVisitantes;
+    private final int totalAtracoes;
+    private final int reservasAtivas;
+    private final int pessoasEmFilas;
+    private final double taxaConclusao;
+
+    private final int reservasDia;
+    private final Atracao atracaoMaisDisputada;
+    private final Visitante visitanteMaisAtivo;
+    private final FilaVirtual filaMaisLonga;
+    private final int tamanhoFilaMaisLonga;
+
+    public RelatorioParque(LocalDate dataReferencia, int totalVisitantes, int totalAtracoes, int reservasAtivas,
+                           int pessoasEmFilas, double taxaConclusao, int reservasDia, Atracao atracaoMaisDisputada,
+                           Visitante visitanteMaisAtivo, FilaVirtual filaMaisLonga, int tamanhoFilaMaisLonga) {
+        this.dataReferencia = dataReferencia;
+        this.totalVisitantes = totalVisitantes;
+        this.totalAtracoes = totalAtracoes;
+        this.reservasAtivas = reservasAtivas;
+        this.pessoasEmFilas = pessoasEmFilas;
+        this.taxaConclusao = taxaConclusao;
+        this.reservasDia = reservasDia;
+        this.atracaoMaisDisputada = atracaoMaisDisputada;
+        this.visitanteMaisAtivo = visitanteMaisAtivo;
+        this.filaMaisLonga = filaMaisLonga;
+        this.tamanhoFilaMaisLonga = tamanhoFilaMaisLonga;
+    }
+
+    public String formatarTexto() {
+        StringBuilder relatorio = new StringBuilder();
+        relatorio.append("========== RELATÓRIO DO SISTEMA ==========\n\n");
+
+        relatorio.append("ESTATÍSTICAS GERAIS:\n");
+        relatorio.append("- Total de Visitantes: ").append(totalVisitantes).append("\n");
+        relatorio.append("- Total de Atrações: ").append(totalAtracoes).append("\n");
+        relatorio.append("- Reservas Ativas: ").append(reservasAtivas).append("\n");
+        relatorio.append("- Pessoas em Filas: ").append(pessoasEmFilas).append("\n");
+        relatorio.append("- Taxa de Conclusão: ").append(String.format("%.2f%%", taxaConclusao)).append("\n\n");
+
+        relatorio.append("ESTATÍSTICAS DO DIA:\n");
+        relatorio.append("- Reservas Hoje: ").append(reservasDia).append("\n");
+
+        if (atracaoMaisDisputada != null) {
+            relatorio.append("- Atração Mais Disputada: ").append(atracaoMaisDisputada.getNome()).append("\n");
+        }
+
+        if (visitanteMaisAtivo != null) {
+            relatorio.append("- Visitante Mais Ativo: ").append(visitanteMaisAtivo.getNome()).append("\n");
+        }
+
+        if (filaMaisLonga != null) {
+            relatorio.append("- Fila Mais Longa: ").append(filaMaisLonga.getAtracao().getNome())
+                    .append(" (").append(tamanhoFilaMaisLonga).append(" pessoas)\n");
+        }
+
+        relatorio.append("\n==========================================");
+
+        return relatorio.toString();
+    }
+
+    // Getters
+    public LocalDate getDataReferencia() {
+        return dataReferencia;
+    }
+
+    public int getTotalVisitantes() {
+        return totalVisitantes;
+    }
+
+    public int getTotalAtracoes() {
+        return totalAtracoes;
+    }
+
+    public int getReservasAtivas() {
+        return reservasAtivas;
+    }
+
+    public int getPessoasEmFilas() {
+        return pessoasEmFilas;
+    }
+
+    public double getTaxaConclusao() {
+        return taxaConclusao;
+    }
+
+    public int getReservasDia() {
+        return reservasDia;
+    }
+
+    public Atracao getAtracaoMaisDisputada() {
+        return atracaoMaisDisputada;
+    }
+
+    public Visitante getVisitanteMaisAtivo() {
+        return visitanteMaisAtivo;
+    }
+
+    public FilaVirtual getFilaMaisLonga() {
+        return filaMaisLonga;
+    }
+
+    public int getTamanhoFilaMaisLonga() {
+        return tamanhoFilaMaisLonga;
+    }
+
+    @Override
+    public String toString() {
+        return formatarTexto();
+    }
+}
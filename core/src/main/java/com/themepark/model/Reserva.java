@@ -2,23 +2,75 @@ package com.themepark.model;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Reserva {
-    private static int contadorId = 1;
+    private static final AtomicInteger contadorId = new AtomicInteger(1);
+    // Ordem global das conclusões e cancelamentos, para o instantâneo saber o que já tinha terminado
+    private static final AtomicLong contadorFinalizacoes = new AtomicLong();
 
     private int id;
     private Visitante visitante;
     private Atracao atracao;
     private HorarioSessao horarioEscolhido;
     private LocalDateTime dataHoraCriacao;
-    private LocalDateTime dataHoraConclusao;
-    private StatusReserva status;
+    // Voláteis: a reserva é concluída ou cancelada sob o lock da fila e lida por outras threads
+    private volatile LocalDateTime dataHoraConclusao;
+    private volatile StatusReserva status;
+    // Posição da finalização em contadorFinalizacoes (0 enquanto ativa); escrita depois do status
+    private volatile long ordemFinalizacao;
 
     private static final DateTimeFormatter FORMATTER =
             DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
     public Reserva(Visitante visitante, Atracao atracao, HorarioSessao horarioEscolhido) {
+        this(visitante, atracao, horarioEscolhido, contadorId.getAndIncrement(), agora());
+    }
+
+    // Construtor sem horário específico (para filas virtuais sem horário marcado)
+    public Reserva(Visitante visitante, Atracao atracao) {
+        this(visitante, atracao, null);
+    }
+
+    // Reserva recriada a partir do diário ou de um instantâneo, com o id e os horários originais
+    Reserva(int id, Visitante visitante, Atracao atracao, HorarioSessao horarioEscolhido,
+            LocalDateTime dataHoraCriacao) {
+        this(visitante, atracao, horarioEscolhido, id, dataHoraCriacao);
+
+        // Os ids novos continuam depois do maior id restaurado
+        contadorId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    // Instantes de reservas têm precisão de milissegundos, a mesma do CodecParque
+    static LocalDateTime agora() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    // Próximo id a ser usado, gravado nos instantâneos: ids consumidos por entradas recusadas não voltam
+    static int getProximoId() {
+        return contadorId.get();
+    }
+
+    static void avancarProximoId(int proximoId) {
+        contadorId.accumulateAndGet(proximoId, Math::max);
+    }
+
+    // Ordem da última finalização até agora
+    static long getUltimaFinalizacao() {
+        return contadorFinalizacoes.get();
+    }
+
+    // Se a reserva já tinha terminado quando a ordem de finalização era a dada; o status e a conclusão não mudam mais
+    boolean finalizadaAte(long ordem) {
+        long propria = this.ordemFinalizacao;
+        return propria != 0 && propria <= ordem;
+    }
+
+    private Reserva(Visitante visitante, Atracao atracao, HorarioSessao horarioEscolhido,
+                    int id, LocalDateTime dataHoraCriacao) {
         if (visitante == null) {
             throw new IllegalArgumentException("Visitante não pode ser nulo");
         }
@@ -26,20 +78,15 @@ public class Reserva {
             throw new IllegalArgumentException("Atração não pode ser nula");
         }
 
-        this.id = contadorId++;
+        this.id = id;
         this.visitante = visitante;
         this.atracao = atracao;
         this.horarioEscolhido = horarioEscolhido;
-        this.dataHoraCriacao = LocalDateTime.now();
+        this.dataHoraCriacao = dataHoraCriacao;
         this.status = StatusReserva.ATIVA;
         this.dataHoraConclusao = null;
     }
 
-    // Construtor sem horário específico (para filas virtuais sem horário marcado)
-    public Reserva(Visitante visitante, Atracao atracao) {
-        this(visitante, atracao, null);
-    }
-
     public boolean podeEntrarNaAtracao() {
         // Verifica se a reserva está ativa
         if (this.status != StatusReserva.ATIVA) {
@@ -64,21 +111,33 @@ public class Reserva {
     }
 
     public void concluir() {
+        concluir(agora());
+    }
+
+    // Com o horário explícito, para que a reaplicação do diário reproduza o original
+    void concluir(LocalDateTime instante) {
         if (this.status != StatusReserva.ATIVA) {
             throw new IllegalStateException("Apenas reservas ativas podem ser concluídas");
         }
 
+        // O horário vem antes do status: quem lê um status final já vê o horário
+        this.dataHoraConclusao = instante;
         this.status = StatusReserva.CONCLUIDA;
-        this.dataHoraConclusao = LocalDateTime.now();
+        this.ordemFinalizacao = contadorFinalizacoes.incrementAndGet();
     }
 
     public void cancelar() {
+        cancelar(agora());
+    }
+
+    void cancelar(LocalDateTime instante) {
         if (this.status != StatusReserva.ATIVA) {
             throw new IllegalStateException("Apenas reservas ativas podem ser canceladas");
         }
 
+        this.dataHoraConclusao = instante;
         this.status = StatusReserva.CANCELADA;
-        this.dataHoraConclusao = LocalDateTime.now();
+        this.ordemFinalizacao = contadorFinalizacoes.incrementAndGet();
     }
 
     public boolean isAtiva() {
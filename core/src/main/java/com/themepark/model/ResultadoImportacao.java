@@ -0,0 +1,120 @@
+package com.themepark.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resultado de uma importação do {@link ImportadorCsv}: quantas linhas foram
+ * lidas e cadastradas, quanto tempo levou e quais linhas foram recusadas, com
+ * o motivo de cada uma (em ordem de linha).
+ */
+public final class ResultadoImportacao {
+    private static final int REJEITADAS_NO_RESUMO = 20;
+
+    private final List<LinhaRejeitada> rejeitadas;
+    private int linhasLidas;
+    private int importados;
+    private long duracaoNanos;
+
+    ResultadoImportacao() {
+        this.rejeitadas = new ArrayList<>();
+    }
+
+    void registrarLinhas(int linhas) {
+        this.linhasLidas += linhas;
+    }
+
+    void registrarImportado() {
+        this.importados++;
+    }
+
+    void registrarRejeitada(int linha, String motivo) {
+        this.rejeitadas.add(new LinhaRejeitada(linha, motivo));
+    }
+
+    void concluir(long duracaoNanos) {
+        this.rejeitadas.sort(Comparator.comparingInt(LinhaRejeitada::getLinha));
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    // Linhas de dados lidas, sem contar o cabeçalho e as linhas em branco
+    public int getLinhasLidas() {
+        return linhasLidas;
+    }
+
+    public int getImportados() {
+        return importados;
+    }
+
+    public List<LinhaRejeitada> getRejeitadas() {
+        return Collections.unmodifiableList(rejeitadas);
+    }
+
+    public int getTotalRejeitadas() {
+        return rejeitadas.size();
+    }
+
+    public Duration getDuracao() {
+        return Duration.ofNanos(duracaoNanos);
+    }
+
+    public double getLinhasPorSegundo() {
+        return duracaoNanos > 0 ? linhasLidas * 1_000_000_000.0 / duracaoNanos : 0;
+    }
+
+    public String formatarResumo() {
+        StringBuilder resumo = new StringBuilder();
+        resumo.append("Linhas lidas: ").append(linhasLidas).append("\n");
+        resumo.append("Importadas: ").append(importados).append("\n");
+        resumo.append("Rejeitadas: ").append(rejeitadas.size()).append("\n");
+        resumo.append(String.format("Tempo: %.2f s (%.0f linhas/s)%n", duracaoNanos / 1_000_000_000.0,
+                getLinhasPorSegundo()));
+
+        int exibidas = Math.min(rejeitadas.size(), REJEITADAS_NO_RESUMO);
+        for (int i = 0; i < exibidas; i++) {
+            resumo.append("\n- ").append(rejeitadas.get(i));
+        }
+        if (rejeitadas.size() > exibidas) {
+            resumo.append("\n... e mais ").append(rejeitadas.size() - exibidas).append(" linhas");
+        }
+
+        return resumo.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoImportacao{" +
+                "linhasLidas=" + linhasLidas +
+                ", importados=" + importados +
+                ", rejeitadas=" + rejeitadas.size() +
+                ", duracaoMillis=" + duracaoNanos / 1_000_000 +
+                '}';
+    }
+
+    public static final class LinhaRejeitada {
+        private final int linha;
+        private final String motivo;
+
+        LinhaRejeitada(int linha, String motivo) {
+            this.linha = linha;
+            this.motivo = motivo;
+        }
+
+        // Número da linha no arquivo, a partir de 1 (o cabeçalho é a linha 1)
+        public int getLinha() {
+            return linha;
+        }
+
+        public String getMotivo() {
+            return motivo;
+        }
+
+        @Override
+        public String toString() {
+            return "Linha " + linha + ": " + motivo;
+        }
+    }
+}
@@ -0,0 +1,916 @@
+package com.themepark.model;
+
+import com.themepark.model.datastructures.LinkedList;
+import com.themepark.model.datastructures.LongObjectHashMap;
+import com.themepark.model.datastructures.SequentialList;
+import com.themepark.model.datastructures.UnrolledLinkedList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Gerenciador central do parque, seguro para uso concorrente:
+ * - cada FilaVirtual tem o seu próprio lock, então entradas, saídas e sessões
+ *   de atrações diferentes correm em paralelo;
+ * - os índices de atrações e filas são ConcurrentHashMaps; o de visitantes, um
+ *   mapa primitivo pelo CPF numérico, sob o lock da lista de visitantes;
+ * - as listas de cadastro são protegidas por locks de leitura/escrita;
+ * - o histórico de cada visitante é sincronizado no próprio visitante, e o
+ *   índice por dia trava só a atração e a faixa de visitantes envolvidas.
+ *
+ * Com um {@link DiarioOperacoes} anexado, cada operação que altera o estado é
+ * registrada no diário ainda sob o lock que a ordena e o método só retorna
+ * depois que o registro está durável (a espera acontece fora dos locks).
+ *
+ * Toda operação que altera o estado passa pela barreira de instantâneo (o lado
+ * de leitura de um lock de leitura/escrita, tomado antes de qualquer outro
+ * lock); a captura de um {@link InstantaneoParque} toma o lado de escrita por
+ * um instante e copia um estado em que nenhuma operação está pela metade.
+ */
+public class SistemaParque {
+    // Contadores de ranking por dia: as contagens são exatas até este número de chaves distintas
+    private static final int CAPACIDADE_RANKING_DIA = 1024;
+
+    // Implementação das listas de cadastro: "encadeada" (LinkedList, um nó por elemento) ou
+    // "desenrolada" (UnrolledLinkedList, blocos contíguos, mais rápida de percorrer)
+    private static final String PROPRIEDADE_LISTAS = "themepark.listas";
+    private static final boolean LISTAS_DESENROLADAS = "desenrolada".equalsIgnoreCase(
+            System.getProperty(PROPRIEDADE_LISTAS, "encadeada"));
+
+    private static final SistemaParque instance = new SistemaParque();
+
+    private SequentialList<Atracao> atracoes;
+    private SequentialList<Visitante> visitantes;
+    private SequentialList<FilaVirtual> filasVirtuais;
+    private SequentialList<Reserva> reservas;
+    private Estatisticas estatisticas;
+
+    // Protegem as listas acima; as filas virtuais seguem o lock das atrações
+    private final ReentrantReadWriteLock lockAtracoes;
+    private final ReentrantReadWriteLock lockVisitantes;
+    private final ReentrantLock lockReservas;
+    // Só para criar posições em reservasPorVisitante; a primeira reserva de cada visitante passa por ele
+    private final ReentrantLock lockPosicoesVisitante;
+    private final ReentrantReadWriteLock barreiraInstantaneo;
+
+    // Índices mantidos em sincronia com as listas acima para buscas em O(1). Os visitantes são
+    // indexados pelos dígitos do CPF como número, sob lockVisitantes
+    private final LongObjectHashMap<Visitante> visitantesPorCpf;
+    // Ids densos dos visitantes deste sistema, pela chave do CPF, sob lockVisitantes
+    private final RegistroVisitantes registroVisitantes;
+    private final Map<String, Atracao> atracoesPorNome;
+    private final Map<Atracao, FilaVirtual> filasPorAtracao;
+    // Histórico de reservas de cada visitante e a reserva ativa por atração, indexado pelo id
+    // denso do visitante. Leitura sem lock; criação de posições e crescimento sob lockPosicoesVisitante
+    private volatile ReservasVisitante[] reservasPorVisitante;
+    private final IndiceReservasPorDia reservasPorDia;
+    private volatile DiarioOperacoes diario;
+
+    private SistemaParque() {
+        this.atracoes = novaLista();
+        this.visitantes = novaLista();
+        this.filasVirtuais = novaLista();
+        this.reservas = novaLista();
+        this.lockAtracoes = new ReentrantReadWriteLock();
+        this.lockVisitantes = new ReentrantReadWriteLock();
+        this.lockReservas = new ReentrantLock();
+        this.lockPosicoesVisitante = new ReentrantLock();
+        this.barreiraInstantaneo = new ReentrantReadWriteLock();
+        this.visitantesPorCpf = new LongObjectHashMap<>();
+        this.registroVisitantes = new RegistroVisitantes(this.lockVisitantes);
+        this.atracoesPorNome = new ConcurrentHashMap<>();
+        this.filasPorAtracao = new ConcurrentHashMap<>();
+        this.reservasPorVisitante = new ReservasVisitante[0];
+        // Sem subdivisão por hora: nada consulta as reservas por intervalo de horas
+        this.reservasPorDia = new IndiceReservasPorDia(false, CAPACIDADE_RANKING_DIA);
+        this.estatisticas = new Estatisticas(this);
+    }
+
+    // Singleton pattern (instância criada na carga da classe, sem corrida na inicialização)
+    public static SistemaParque getInstance() {
+        return instance;
+    }
+
+    private static <T> SequentialList<T> novaLista() {
+        return LISTAS_DESENROLADAS ? new UnrolledLinkedList<>() : new LinkedList<>();
+    }
+
+    // ========== GERENCIAMENTO DE ATRAÇÕES ==========
+
+    public void cadastrarAtracao(Atracao atracao) {
+        DiarioOperacoes diario = this.diario;
+        String nome = normalizarNome(atracao.getNome());
+        long lsn = 0;
+
+        // Cria automaticamente uma fila virtual para a atração
+        FilaVirtual filaVirtual = new FilaVirtual(atracao, this.registroVisitantes);
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            // Todas as alterações de atracoesPorNome acontecem sob o lock de escrita, então a
+            // verificação de duplicidade vale até a publicação. O diário (que pode bloquear) é
+            // escrito fora de qualquer bin do mapa, mas antes de a atração ficar visível
+            this.lockAtracoes.writeLock().lock();
+            try {
+                if (this.atracoesPorNome.containsKey(nome)) {
+                    throw new IllegalArgumentException("Já existe uma atração com este nome");
+                }
+                if (diario != null) {
+                    lsn = diario.registrarCadastroAtracao(atracao);
+                }
+
+                // A fila é publicada antes do nome: quem encontra a atração já encontra a fila
+                this.filasPorAtracao.put(atracao, filaVirtual);
+                this.atracoes.addLast(atracao);
+                this.filasVirtuais.addLast(filaVirtual);
+                this.atracoesPorNome.put(nome, atracao);
+            } finally {
+                this.lockAtracoes.writeLock().unlock();
+            }
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn);
+    }
+
+    public Atracao buscarAtracao(String nome) {
+        if (nome == null) {
+            return null;
+        }
+
+        return this.atracoesPorNome.get(normalizarNome(nome));
+    }
+
+    private static String normalizarNome(String nome) {
+        return nome.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public boolean removerAtracao(String nome) {
+        Atracao atracao = buscarAtracao(nome);
+
+        if (atracao == null) {
+            return false;
+        }
+
+        FilaVirtual fila = this.filasPorAtracao.get(atracao);
+        DiarioOperacoes diario = this.diario;
+        String chave = normalizarNome(atracao.getNome());
+        long lsn = 0;
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            this.lockAtracoes.writeLock().lock();
+            try {
+                if (fila != null) {
+                    fila.getLock().lock();
+                }
+                try {
+                    // Sob o lock de escrita ninguém mais altera atracoesPorNome, e sob o lock da
+                    // fila nenhuma entrada nela aparece no diário depois da remoção
+                    if (this.atracoesPorNome.get(chave) != atracao) {
+                        return false;
+                    }
+                    if (diario != null) {
+                        lsn = diario.registrarRemocaoAtracao(atracao);
+                    }
+                    this.atracoesPorNome.remove(chave);
+
+                    // Remove a fila virtual associada
+                    if (fila != null) {
+                        this.filasPorAtracao.remove(atracao);
+                        this.estatisticas.registrarSaidaDaFila(fila.getTamanho());
+                    }
+                } finally {
+                    if (fila != null) {
+                        fila.getLock().unlock();
+                    }
+                }
+
+                if (fila != null) {
+                    this.filasVirtuais.remove(fila);
+                }
+                this.atracoes.remove(atracao);
+            } finally {
+                this.lockAtracoes.writeLock().unlock();
+            }
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn);
+        return true;
+    }
+
+    public int contarAtracoes() {
+        return this.atracoesPorNome.size();
+    }
+
+    public List<Atracao> listarAtracoes() {
+        this.lockAtracoes.readLock().lock();
+        try {
+            List<Atracao> lista = new ArrayList<>(this.atracoes.getSize());
+            this.atracoes.forEach(lista::add);
+            return lista;
+        } finally {
+            this.lockAtracoes.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visão preguiçosa das atrações, na ordem de cadastro, sem copiar a lista.
+     * O lock é tomado só para capturar o início e o tamanho da lista; o stream
+     * pode ser consumido (inclusive em paralelo) depois, sem segurar o lock.
+     * Cadastros e remoções feitos depois da chamada podem ou não aparecer, por
+     * isso o stream não declara um tamanho exato.
+     */
+    public Stream<Atracao> streamAtracoes() {
+        Spliterator<Atracao> spliterator;
+
+        this.lockAtracoes.readLock().lock();
+        try {
+            spliterator = this.atracoes.spliterator();
+        } finally {
+            this.lockAtracoes.readLock().unlock();
+        }
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    public List<Atracao> listarAtracoesDisponiveisParaVisitante(Visitante visitante) {
+        List<Atracao> disponiveis = new ArrayList<>();
+
+        for (Atracao atracao : listarAtracoes()) {
+            if (atracao.isDisponivelParaVisitante(visitante)) {
+                disponiveis.add(atracao);
+            }
+        }
+
+        return disponiveis;
+    }
+
+    // ========== GERENCIAMENTO DE VISITANTES ==========
+
+    public void cadastrarVisitante(Visitante visitante) {
+        DiarioOperacoes diario = this.diario;
+        long lsn = 0;
+
+        long chave = Visitante.chaveCpf(visitante.getCpf());
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            this.lockVisitantes.writeLock().lock();
+            try {
+                if (this.visitantesPorCpf.containsKey(chave)) {
+                    throw new IllegalArgumentException("Visitante já cadastrado");
+                }
+                if (diario != null) {
+                    lsn = diario.registrarCadastroVisitante(visitante);
+                }
+                // Atribui o id denso já no cadastro, fora do caminho das filas
+                visitante.getId(this.registroVisitantes);
+
+                this.visitantesPorCpf.put(chave, visitante);
+                this.visitantes.addLast(visitante);
+            } finally {
+                this.lockVisitantes.writeLock().unlock();
+            }
+
+            this.estatisticas.registrarVisitanteCadastrado(visitante);
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn);
+    }
+
+    /**
+     * Cadastra um lote de visitantes tomando a barreira e o lock da lista uma só
+     * vez, com uma única espera pelo diário no fim. A posição i do resultado diz
+     * se o visitante i entrou; ele fica de fora se o CPF já estiver cadastrado,
+     * inclusive por um visitante anterior do mesmo lote.
+     */
+    public boolean[] cadastrarVisitantes(List<Visitante> novos) {
+        DiarioOperacoes diario = this.diario;
+        boolean[] cadastrados = new boolean[novos.size()];
+        long lsn = 0;
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            this.lockVisitantes.writeLock().lock();
+            try {
+                for (int i = 0; i < cadastrados.length; i++) {
+                    Visitante visitante = novos.get(i);
+                    long chave = Visitante.chaveCpf(visitante.getCpf());
+
+                    if (this.visitantesPorCpf.containsKey(chave)) {
+                        continue;
+                    }
+                    if (diario != null) {
+                        lsn = diario.registrarCadastroVisitante(visitante);
+                    }
+                    visitante.getId(this.registroVisitantes);
+
+                    this.visitantesPorCpf.put(chave, visitante);
+                    this.visitantes.addLast(visitante);
+                    cadastrados[i] = true;
+                }
+            } finally {
+                this.lockVisitantes.writeLock().unlock();
+            }
+
+            for (int i = 0; i < cadastrados.length; i++) {
+                if (cadastrados[i]) {
+                    this.estatisticas.registrarVisitanteCadastrado(novos.get(i));
+                }
+            }
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        // Os registros do lote têm LSNs crescentes: esperar pelo último cobre todos
+        aguardarDiario(diario, lsn);
+        return cadastrados;
+    }
+
+    // Aceita o CPF com ou sem pontuação
+    public Visitante buscarVisitante(String cpf) {
+        long chave = Visitante.chaveCpf(cpf);
+
+        if (chave < 0) {
+            return null;
+        }
+
+        this.lockVisitantes.readLock().lock();
+        try {
+            return this.visitantesPorCpf.get(chave);
+        } finally {
+            this.lockVisitantes.readLock().unlock();
+        }
+    }
+
+    public boolean removerVisitante(String cpf) {
+        Visitante visitante = buscarVisitante(cpf);
+
+        if (visitante == null) {
+            return false;
+        }
+
+        DiarioOperacoes diario = this.diario;
+        long chave = Visitante.chaveCpf(visitante.getCpf());
+        long lsn = 0;
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            this.lockVisitantes.writeLock().lock();
+            try {
+                // Outra thread pode ter removido (ou removido e recadastrado) o visitante nesse meio tempo
+                if (this.visitantesPorCpf.get(chave) != visitante) {
+                    return false;
+                }
+                if (diario != null) {
+                    lsn = diario.registrarRemocaoVisitante(visitante);
+                }
+
+                this.visitantesPorCpf.remove(chave);
+                this.visitantes.remove(visitante);
+            } finally {
+                this.lockVisitantes.writeLock().unlock();
+            }
+
+            this.estatisticas.registrarVisitanteRemovido(visitante);
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn);
+        return true;
+    }
+
+    public int contarVisitantes() {
+        this.lockVisitantes.readLock().lock();
+        try {
+            return this.visitantesPorCpf.size();
+        } finally {
+            this.lockVisitantes.readLock().unlock();
+        }
+    }
+
+    public List<Visitante> listarVisitantes() {
+        this.lockVisitantes.readLock().lock();
+        try {
+            List<Visitante> lista = new ArrayList<>(this.visitantes.getSize());
+            this.visitantes.forEach(lista::add);
+            return lista;
+        } finally {
+            this.lockVisitantes.readLock().unlock();
+        }
+    }
+
+    // Visão preguiçosa dos visitantes, nas mesmas condições de streamAtracoes
+    public Stream<Visitante> streamVisitantes() {
+        Spliterator<Visitante> spliterator;
+
+        this.lockVisitantes.readLock().lock();
+        try {
+            spliterator = this.visitantes.spliterator();
+        } finally {
+            this.lockVisitantes.readLock().unlock();
+        }
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    // ========== GERENCIAMENTO DE FILAS VIRTUAIS ==========
+
+    public FilaVirtual obterFilaVirtual(Atracao atracao) {
+        if (atracao == null) {
+            return null;
+        }
+
+        return this.filasPorAtracao.get(atracao);
+    }
+
+    // Trava a fila da atração e confere que ela não foi removida enquanto o lock era aguardado
+    private FilaVirtual travarFila(Atracao atracao, String mensagemErro) {
+        FilaVirtual fila = obterFilaVirtual(atracao);
+
+        if (fila == null) {
+            throw new IllegalArgumentException(mensagemErro);
+        }
+
+        fila.getLock().lock();
+        if (this.filasPorAtracao.get(atracao) != fila) {
+            fila.getLock().unlock();
+            throw new IllegalArgumentException(mensagemErro);
+        }
+
+        return fila;
+    }
+
+    public void adicionarVisitanteNaFila(Visitante visitante, Atracao atracao) {
+        entrarNaFila(visitante, atracao, null, null);
+    }
+
+    // Variante dos lotes do ator: o registro no diário é anotado na espera em vez de aguardado aqui
+    void adicionarVisitanteNaFila(Visitante visitante, Atracao atracao, EsperaDiario espera) {
+        entrarNaFila(visitante, atracao, null, espera);
+    }
+
+    // Reaplicação do diário: a entrada já foi aceita uma vez, então a disponibilidade não é conferida de novo
+    void restaurarEntradaNaFila(Reserva reserva) {
+        entrarNaFila(reserva.getVisitante(), reserva.getAtracao(), reserva, null);
+    }
+
+    private void entrarNaFila(Visitante visitante, Atracao atracao, Reserva restaurada, EsperaDiario espera) {
+        DiarioOperacoes diario = this.diario;
+        long lsn = 0;
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            FilaVirtual fila = travarFila(atracao, "Atração não encontrada no sistema");
+            try {
+                if (restaurada == null && !atracao.isDisponivelParaVisitante(visitante)) {
+                    throw new IllegalArgumentException(atracao.getMotivoIndisponibilidade(visitante));
+                }
+
+                // A reserva só é registrada depois que a fila aceita a entrada
+                Reserva reserva = restaurada != null ? restaurada : new Reserva(visitante, atracao);
+                fila.adicionarReserva(reserva);
+                registrarReserva(reserva);
+                this.estatisticas.registrarEntradaNaFila();
+
+                if (diario != null) {
+                    lsn = diario.registrarEntradaNaFila(reserva);
+                }
+            } finally {
+                fila.getLock().unlock();
+            }
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn, espera);
+    }
+
+    public void removerVisitanteDaFila(Visitante visitante, Atracao atracao) {
+        sairDaFila(visitante, atracao, Reserva.agora(), null);
+    }
+
+    void removerVisitanteDaFila(Visitante visitante, Atracao atracao, EsperaDiario espera) {
+        sairDaFila(visitante, atracao, Reserva.agora(), espera);
+    }
+
+    void restaurarSaidaDaFila(Visitante visitante, Atracao atracao, LocalDateTime instante) {
+        sairDaFila(visitante, atracao, instante, null);
+    }
+
+    private void sairDaFila(Visitante visitante, Atracao atracao, LocalDateTime instante, EsperaDiario espera) {
+        DiarioOperacoes diario = this.diario;
+        long lsn = 0;
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            FilaVirtual fila = travarFila(atracao, "Atração não encontrada");
+            try {
+                boolean saiu = fila.removerVisitante(visitante) != null;
+                if (saiu) {
+                    this.estatisticas.registrarSaidaDaFila(1);
+                }
+
+                // Cancela a reserva ativa
+                boolean cancelou = cancelarReservaAtiva(visitante, atracao, instante);
+
+                if (diario != null && (saiu || cancelou)) {
+                    lsn = diario.registrarSaidaDaFila(visitante, atracao, instante);
+                }
+            } finally {
+                fila.getLock().unlock();
+            }
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn, espera);
+    }
+
+    public int consultarPosicaoNaFila(Visitante visitante, Atracao atracao) {
+        FilaVirtual fila = obterFilaVirtual(atracao);
+
+        if (fila == null) {
+            return -1;
+        }
+
+        return fila.consultarPosicao(visitante);
+    }
+
+    public int estimarTempoEspera(Visitante visitante, Atracao atracao) {
+        FilaVirtual fila = obterFilaVirtual(atracao);
+
+        if (fila == null) {
+            return 0;
+        }
+
+        return fila.estimarTempoEspera(visitante);
+    }
+
+    public List<FilaVirtual> listarFilasVirtuais() {
+        this.lockAtracoes.readLock().lock();
+        try {
+            List<FilaVirtual> lista = new ArrayList<>(this.filasVirtuais.getSize());
+            this.filasVirtuais.forEach(lista::add);
+            return lista;
+        } finally {
+            this.lockAtracoes.readLock().unlock();
+        }
+    }
+
+    // Visão preguiçosa das filas virtuais, nas mesmas condições de streamAtracoes
+    public Stream<FilaVirtual> streamFilasVirtuais() {
+        Spliterator<FilaVirtual> spliterator;
+
+        this.lockAtracoes.readLock().lock();
+        try {
+            spliterator = this.filasVirtuais.spliterator();
+        } finally {
+            this.lockAtracoes.readLock().unlock();
+        }
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    // ========== GERENCIAMENTO DE RESERVAS ==========
+
+    public List<Reserva> obterReservasVisitante(Visitante visitante) {
+        ReservasVisitante doVisitante = reservasDo(visitante);
+        return doVisitante != null ? doVisitante.listarHistorico() : new ArrayList<>();
+    }
+
+    public List<Reserva> obterReservasAtivasVisitante(Visitante visitante) {
+        ReservasVisitante doVisitante = reservasDo(visitante);
+        return doVisitante != null ? doVisitante.listarAtivas() : new ArrayList<>();
+    }
+
+    // Só consulta: um visitante sem id não tem reservas, e não ganha um id aqui
+    private ReservasVisitante reservasDo(Visitante visitante) {
+        int id = visitante.getIdExistente(this.registroVisitantes);
+        if (id == RegistroVisitantes.SEM_ID) {
+            return null;
+        }
+
+        ReservasVisitante[] porId = this.reservasPorVisitante;
+        ReservasVisitante doVisitante = id < porId.length ? porId[id] : null;
+
+        if (doVisitante != null) {
+            return doVisitante;
+        }
+
+        // A posição pode ter sido criada por outra thread sem publicação segura; confirma sob o lock
+        this.lockPosicoesVisitante.lock();
+        try {
+            porId = this.reservasPorVisitante;
+            return id < porId.length ? porId[id] : null;
+        } finally {
+            this.lockPosicoesVisitante.unlock();
+        }
+    }
+
+    // Só trava na primeira reserva do visitante (ou se a posição ainda não estiver visível)
+    private ReservasVisitante reservasDoOuNovo(Visitante visitante) {
+        ReservasVisitante doVisitante = reservasDo(visitante);
+        if (doVisitante != null) {
+            return doVisitante;
+        }
+
+        this.lockPosicoesVisitante.lock();
+        try {
+            int id = visitante.getId(this.registroVisitantes);
+            ReservasVisitante[] porId = this.reservasPorVisitante;
+
+            if (id >= porId.length) {
+                int tamanho = Math.max(Math.max(id + 1, porId.length * 2), this.registroVisitantes.getQuantidadeIds());
+                porId = Arrays.copyOf(porId, tamanho);
+            }
+            if (porId[id] == null) {
+                porId[id] = new ReservasVisitante();
+            }
+            // Republica o array (novo ou não) pela escrita volátil
+            this.reservasPorVisitante = porId;
+            return porId[id];
+        } finally {
+            this.lockPosicoesVisitante.unlock();
+        }
+    }
+
+    // lockReservas só cobre o acréscimo ao histórico; os índices por visitante e por dia têm locks próprios
+    private void registrarReserva(Reserva reserva) {
+        this.lockReservas.lock();
+        try {
+            this.reservas.addLast(reserva);
+        } finally {
+            this.lockReservas.unlock();
+        }
+
+        ReservasVisitante doVisitante = reservasDoOuNovo(reserva.getVisitante());
+        this.reservasPorDia.registrar(reserva);
+        doVisitante.registrar(reserva);
+        this.estatisticas.registrarReservaCriada(reserva);
+    }
+
+    // Retira a reserva ativa do índice; quem chama decide se ela será concluída ou cancelada
+    private Reserva retirarReservaAtiva(Visitante visitante, Atracao atracao) {
+        ReservasVisitante doVisitante = reservasDo(visitante);
+        return doVisitante != null ? doVisitante.retirarAtiva(atracao) : null;
+    }
+
+    private boolean cancelarReservaAtiva(Visitante visitante, Atracao atracao, LocalDateTime instante) {
+        Reserva reserva = retirarReservaAtiva(visitante, atracao);
+
+        if (reserva == null) {
+            return false;
+        }
+
+        reserva.cancelar(instante);
+        this.estatisticas.registrarReservaCancelada(reserva);
+        return true;
+    }
+
+    public int contarReservas() {
+        this.lockReservas.lock();
+        try {
+            return this.reservas.getSize();
+        } finally {
+            this.lockReservas.unlock();
+        }
+    }
+
+    public List<Reserva> listarTodasReservas() {
+        this.lockReservas.lock();
+        try {
+            List<Reserva> lista = new ArrayList<>(this.reservas.getSize());
+            this.reservas.forEach(lista::add);
+            return lista;
+        } finally {
+            this.lockReservas.unlock();
+        }
+    }
+
+    /**
+     * Visão preguiçosa das reservas existentes no momento da chamada, em ordem
+     * de criação. O histórico só cresce, então as reservas entregues são
+     * exatamente as que existiam quando o stream foi criado.
+     */
+    public Stream<Reserva> streamReservas() {
+        Spliterator<Reserva> spliterator;
+
+        this.lockReservas.lock();
+        try {
+            // O histórico nunca perde reservas: o tamanho capturado é exato
+            spliterator = this.reservas.sizedSpliterator();
+        } finally {
+            this.lockReservas.unlock();
+        }
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+
+    // ========== PROCESSAMENTO DE SESSÕES ==========
+
+    public List<Visitante> processarProximaSessao(Atracao atracao) {
+        return processarSessao(atracao, Reserva.agora(), null);
+    }
+
+    List<Visitante> processarProximaSessao(Atracao atracao, EsperaDiario espera) {
+        return processarSessao(atracao, Reserva.agora(), espera);
+    }
+
+    void restaurarSessaoProcessada(Atracao atracao, LocalDateTime instante) {
+        processarSessao(atracao, instante, null);
+    }
+
+    private List<Visitante> processarSessao(Atracao atracao, LocalDateTime instante, EsperaDiario espera) {
+        DiarioOperacoes diario = this.diario;
+        long lsn = 0;
+        List<Visitante> atendidos;
+
+        this.barreiraInstantaneo.readLock().lock();
+        try {
+            FilaVirtual fila = travarFila(atracao, "Atração não encontrada");
+            try {
+                List<Reserva> reservasAtendidas = fila.atenderProximaSessao();
+                atendidos = new ArrayList<>(reservasAtendidas.size());
+
+                // Cada entrada da fila já traz sua reserva: a sessão é concluída em O(k)
+                for (Reserva reserva : reservasAtendidas) {
+                    Visitante visitante = reserva.getVisitante();
+
+                    retirarReservaAtiva(visitante, atracao);
+                    reserva.concluir(instante);
+                    this.estatisticas.registrarReservaConcluida(reserva);
+                    atendidos.add(visitante);
+                }
+
+                this.estatisticas.registrarSaidaDaFila(atendidos.size());
+
+                if (diario != null && !atendidos.isEmpty()) {
+                    lsn = diario.registrarSessaoProcessada(atracao, instante);
+                }
+            } finally {
+                fila.getLock().unlock();
+            }
+        } finally {
+            this.barreiraInstantaneo.readLock().unlock();
+        }
+
+        aguardarDiario(diario, lsn, espera);
+        return atendidos;
+    }
+
+    // ========== INSTANTÂNEO ==========
+
+    // Lado de leitura da barreira, para o ator de uma fila tomar antes do lock dela (a mesma ordem das operações)
+    Lock getBarreiraOperacoes() {
+        return this.barreiraInstantaneo.readLock();
+    }
+
+    // Pausa as operações só enquanto lê o cadastro, as filas e a posição do diário; o histórico
+    // de reservas é indexado depois da pausa. Não pode ser chamado de dentro de uma operação
+    // (o lado de leitura não é promovido)
+    InstantaneoParque capturarInstantaneo(LongSupplier posicaoDiario) {
+        InstantaneoParque.Captura captura;
+
+        this.barreiraInstantaneo.writeLock().lock();
+        try {
+            captura = InstantaneoParque.capturar(this, posicaoDiario.getAsLong());
+        } finally {
+            this.barreiraInstantaneo.writeLock().unlock();
+        }
+
+        return captura.montar();
+    }
+
+    // Carga de um instantâneo: a reserva volta ao histórico e, se já terminou, sai das ativas
+    void restaurarReserva(Reserva reserva, StatusReserva status, LocalDateTime conclusao) {
+        registrarReserva(reserva);
+
+        if (status == StatusReserva.CONCLUIDA) {
+            retirarReservaAtiva(reserva.getVisitante(), reserva.getAtracao());
+            reserva.concluir(conclusao);
+            this.estatisticas.registrarReservaConcluida(reserva);
+        } else if (status == StatusReserva.CANCELADA) {
+            retirarReservaAtiva(reserva.getVisitante(), reserva.getAtracao());
+            reserva.cancelar(conclusao);
+            this.estatisticas.registrarReservaCancelada(reserva);
+        }
+    }
+
+    // Carga de um instantâneo: as reservas de cada fila chegam na ordem de atendimento
+    void restaurarNaFila(Reserva reserva) {
+        FilaVirtual fila = travarFila(reserva.getAtracao(), "Instantâneo referencia fila inexistente");
+        try {
+            fila.adicionarReserva(reserva);
+            this.estatisticas.registrarEntradaNaFila();
+        } finally {
+            fila.getLock().unlock();
+        }
+    }
+
+    // ========== DIÁRIO ==========
+
+    synchronized void anexarDiario(DiarioOperacoes diario) {
+        if (this.diario != null) {
+            throw new IllegalStateException("Já existe um diário anexado ao sistema");
+        }
+        this.diario = diario;
+    }
+
+    synchronized void desanexarDiario(DiarioOperacoes diario) {
+        if (this.diario == diario) {
+            this.diario = null;
+        }
+    }
+
+    private static void aguardarDiario(DiarioOperacoes diario, long lsn) {
+        if (diario != null && lsn > 0) {
+            diario.aguardar(lsn);
+        }
+    }
+
+    private static void aguardarDiario(DiarioOperacoes diario, long lsn, EsperaDiario espera) {
+        if (espera != null) {
+            espera.anotar(diario, lsn);
+        } else {
+            aguardarDiario(diario, lsn);
+        }
+    }
+
+    // ========== GETTERS ==========
+    // As listas abaixo não são sincronizadas; prefira os métodos listar* fora da thread de cadastro
+
+    public SequentialList<Atracao> getAtracoes() {
+        return atracoes;
+    }
+
+    public SequentialList<Visitante> getVisitantes() {
+        return visitantes;
+    }
+
+    public SequentialList<FilaVirtual> getFilasVirtuais() {
+        return filasVirtuais;
+    }
+
+    public SequentialList<Reserva> getReservas() {
+        return reservas;
+    }
+
+    public IndiceReservasPorDia getReservasPorDia() {
+        return reservasPorDia;
+    }
+
+    public Estatisticas getEstatisticas() {
+        return estatisticas;
+    }
+
+    /**
+     * Reservas de um visitante. Um mesmo visitante pode entrar em filas de
+     * atrações diferentes ao mesmo tempo (sob locks de filas diferentes), por
+     * isso o acesso é sincronizado aqui.
+     */
+    private static class ReservasVisitante {
+        private final LinkedList<Reserva> historico = new LinkedList<>();
+        private final Map<Atracao, Reserva> ativasPorAtracao = new LinkedHashMap<>();
+
+        synchronized void registrar(Reserva reserva) {
+            this.historico.addLast(reserva);
+            this.ativasPorAtracao.put(reserva.getAtracao(), reserva);
+        }
+
+        synchronized Reserva retirarAtiva(Atracao atracao) {
+            return this.ativasPorAtracao.remove(atracao);
+        }
+
+        synchronized List<Reserva> listarHistorico() {
+            List<Reserva> lista = new ArrayList<>(this.historico.getSize());
+            this.historico.forEach(lista::add);
+            return lista;
+        }
+
+        synchronized List<Reserva> listarAtivas() {
+            return new ArrayList<>(this.ativasPorAtracao.values());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.themepark.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Acesso assíncrono às filas virtuais. Cada atração tem um ator que recebe os
+ * pedidos numa caixa de mensagens sem locks e os aplica em lotes, um de cada
+ * vez, sobre os mesmos métodos de {@link SistemaParque}. Os métodos
+ * síncronos continuam disponíveis e podem ser usados ao mesmo tempo. As
+ * alterações de um lote esperam o diário uma vez só, pelo último registro.
+ */
+public class SistemaParqueAssincrono implements AutoCloseable {
+    private final SistemaParque sistema;
+    private final ExecutorService executor;
+    private final Map<Atracao, AtorFilaVirtual> atores;
+
+    public SistemaParqueAssincrono(SistemaParque sistema) {
+        this(sistema, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public SistemaParqueAssincrono(SistemaParque sistema, ExecutorService executor) {
+        this.sistema = sistema;
+        this.executor = executor;
+        this.atores = new ConcurrentHashMap<>();
+    }
+
+    public CompletableFuture<Void> adicionarVisitanteNaFila(Visitante visitante, Atracao atracao) {
+        return enviar(atracao, espera -> {
+            this.sistema.adicionarVisitanteNaFila(visitante, atracao, espera);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> removerVisitanteDaFila(Visitante visitante, Atracao atracao) {
+        return enviar(atracao, espera -> {
+            this.sistema.removerVisitanteDaFila(visitante, atracao, espera);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Integer> consultarPosicaoNaFila(Visitante visitante, Atracao atracao) {
+        return enviar(atracao, espera -> this.sistema.consultarPosicaoNaFila(visitante, atracao));
+    }
+
+    public CompletableFuture<Integer> estimarTempoEspera(Visitante visitante, Atracao atracao) {
+        return enviar(atracao, espera -> this.sistema.estimarTempoEspera(visitante, atracao));
+    }
+
+    public CompletableFuture<List<Visitante>> processarProximaSessao(Atracao atracao) {
+        return enviar(atracao, espera -> this.sistema.processarProximaSessao(atracao, espera));
+    }
+
+    private <R> CompletableFuture<R> enviar(Atracao atracao, Function<EsperaDiario, R> operacao) {
+        if (atracao == null || this.sistema.obterFilaVirtual(atracao) == null) {
+            // Descarta o ator de uma atração que saiu do sistema
+            if (atracao != null) {
+                this.atores.remove(atracao);
+            }
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Atração não encontrada"));
+        }
+
+        AtorFilaVirtual ator = this.atores.computeIfAbsent(atracao,
+                a -> new AtorFilaVirtual(this.sistema, a, this.executor));
+        return ator.enviar(operacao);
+    }
+
+    public SistemaParque getSistema() {
+        return sistema;
+    }
+
+    // Encerra o executor: o lote em andamento termina e pedidos ainda não aplicados falham
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+}
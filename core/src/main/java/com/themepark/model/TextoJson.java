@@ -0,0 +1,40 @@
+package com.themepark.model;
+
+/**
+ * Escrita de strings JSON (entre aspas, com os escapes obrigatórios), comum ao
+ * servidor HTTP e à exportação de reservas.
+ */
+public final class TextoJson {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TextoJson() {
+    }
+
+    // null vira o literal null; caracteres de controle sem escape curto viram \\u00XX
+    public static void escrever(StringBuilder destino, CharSequence valor) {
+        if (valor == null) {
+            destino.append("null");
+            return;
+        }
+
+        destino.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> destino.append("\\\"");
+                case '\\' -> destino.append("\\\\");
+                case '\n' -> destino.append("\\n");
+                case '\r' -> destino.append("\\r");
+                case '\t' -> destino.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        destino.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        destino.append(c);
+                    }
+                }
+            }
+        }
+        destino.append('"');
+    }
+}
@@ -0,0 +1,321 @@
+package com.themepark.model;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+public class Visitante {
+    private String nome;
+    private String cpf;
+    private LocalDate dataNascimento;
+    private String email;
+    private TipoIngresso tipoIngresso;
+    // Id denso do CPF nos 32 bits baixos e, nos altos, a geração do RegistroVisitantes que o
+    // atribuiu (0 enquanto nenhum atribuiu); preenchido no cadastro ou no primeiro uso em uma fila
+    private volatile long idRegistrado;
+
+    private static final String CPF_VAZIO = "CPF não pode ser vazio";
+    private static final String CPF_TAMANHO = "CPF deve conter 11 dígitos";
+    private static final String CPF_INVALIDO = "CPF inválido";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    public Visitante(String cpf, LocalDate dataNascimento, String email, String nome, TipoIngresso tipoIngresso) {
+        validarCpf(cpf);
+        validarEmail(email);
+
+        this.cpf = cpf;
+        this.dataNascimento = dataNascimento;
+        this.email = email;
+        this.nome = nome;
+        this.tipoIngresso = tipoIngresso;
+    }
+
+    public Visitante(String cpf, String dataNascimentoStr, String email, String nome, TipoIngresso tipoIngresso) {
+        this(cpf, parseData(dataNascimentoStr), email, nome, tipoIngresso);
+    }
+
+    private static LocalDate parseData(String data) {
+        try {
+            return LocalDate.parse(data, FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida. Use o formato dd/MM/yyyy");
+        }
+    }
+
+    private void validarCpf(String cpf) {
+        String problema = verificarCpf(cpf);
+
+        if (problema != null) {
+            throw new IllegalArgumentException(problema);
+        }
+    }
+
+    public static boolean isCpfValido(CharSequence cpf) {
+        return verificarCpf(cpf) == null;
+    }
+
+    // Mensagem do problema do CPF, ou null se ele é válido. Uma só passada, sem alocar:
+    // a pontuação é ignorada e os dois dígitos verificadores são conferidos
+    private static String verificarCpf(CharSequence cpf) {
+        if (cpf == null) {
+            return CPF_VAZIO;
+        }
+
+        boolean vazio = true;
+        boolean todosIguais = true;
+        int digitos = 0;
+        int primeiro = 0;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        int verificadorPrimeiro = 0;
+        int verificadorSegundo = 0;
+
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c > ' ') {
+                vazio = false;
+            }
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            int d = c - '0';
+            if (digitos == 0) {
+                primeiro = d;
+            } else if (d != primeiro) {
+                todosIguais = false;
+            }
+
+            // Pesos 10..2 para o primeiro verificador e 11..2 para o segundo
+            if (digitos < 9) {
+                somaPrimeiro += d * (10 - digitos);
+                somaSegundo += d * (11 - digitos);
+            } else if (digitos == 9) {
+                verificadorPrimeiro = d;
+                somaSegundo += d * 2;
+            } else if (digitos == 10) {
+                verificadorSegundo = d;
+            }
+            digitos++;
+        }
+
+        if (vazio) {
+            return CPF_VAZIO;
+        }
+        if (digitos != 11) {
+            return CPF_TAMANHO;
+        }
+        // Todos os dígitos iguais (ex: 111.111.111-11) passam na conta, mas não são CPFs emitidos
+        if (todosIguais
+                || verificadorPrimeiro != digitoVerificador(somaPrimeiro)
+                || verificadorSegundo != digitoVerificador(somaSegundo)) {
+            return CPF_INVALIDO;
+        }
+        return null;
+    }
+
+    private static int digitoVerificador(int soma) {
+        int resto = soma * 10 % 11;
+        return resto == 10 ? 0 : resto;
+    }
+
+    // Os 11 dígitos do CPF como número, ignorando a pontuação; -1 se não houver exatamente 11 dígitos
+    static long chaveCpf(CharSequence cpf) {
+        if (cpf == null) {
+            return -1;
+        }
+
+        long chave = 0;
+        int digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 11) {
+                    return -1;
+                }
+                chave = chave * 10 + (c - '0');
+            }
+        }
+        return digitos == 11 ? chave : -1;
+    }
+
+    private void validarEmail(String email) {
+        if (!isEmailValido(email)) {
+            throw new IllegalArgumentException("Email inválido");
+        }
+    }
+
+    /**
+     * Mesma regra de ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$, numa só passada e sem alocar
+     */
+    public static boolean isEmailValido(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+
+        int tamanho = email.length();
+        int arroba = -1;
+        int ultimoPonto = -1;
+
+        for (int i = 0; i < tamanho; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (arroba >= 0) {
+                    return false;
+                }
+                arroba = i;
+            } else if (c == '.') {
+                if (arroba >= 0) {
+                    ultimoPonto = i;
+                }
+            } else if (!isLetra(c) && !(c >= '0' && c <= '9') && c != '-'
+                    && (arroba >= 0 || (c != '+' && c != '_'))) {
+                return false;
+            }
+        }
+
+        // Usuário e domínio não vazios e um sufixo de pelo menos duas letras depois do último ponto
+        if (arroba <= 0 || ultimoPonto <= arroba + 1 || tamanho - ultimoPonto - 1 < 2) {
+            return false;
+        }
+        for (int i = ultimoPonto + 1; i < tamanho; i++) {
+            if (!isLetra(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetra(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    public int calcularIdade() {
+        return Period.between(this.dataNascimento, LocalDate.now()).getYears();
+    }
+
+    public boolean podeEntrarNaAtracao(Atracao atracao) {
+        return calcularIdade() >= atracao.getFaixaEtariaMininima();
+    }
+
+    public boolean temPrioridadeParaAtracao(Atracao atracao) {
+        int nivelVisitante = this.tipoIngresso.getNivelPrioridade();
+        int nivelMinimo = convertePrioridadeParaNumero(atracao.getPrioridadeAceita());
+        return nivelVisitante >= nivelMinimo;
+    }
+
+    private int convertePrioridadeParaNumero(NivelPrioridade nivel) {
+        switch (nivel) {
+            case PASSE_ELITE: return 3;
+            case PASSE_PREMIUM: return 2;
+            case PASSE_COMUM: return 1;
+            default: return 1;
+        }
+    }
+
+    // Getters e Setters
+    public String getCpf() {
+        return cpf;
+    }
+
+    // Depois do cadastro o CPF identifica o visitante nos índices do sistema e não pode mudar
+    public void setCpf(String cpf) {
+        validarCpf(cpf);
+        if (this.idRegistrado != 0 && chaveCpf(cpf) != chaveCpf(this.cpf)) {
+            throw new IllegalStateException("CPF de um visitante cadastrado não pode ser alterado");
+        }
+        this.cpf = cpf;
+    }
+
+    // Id no registro, criado se ainda não existir: só no cadastro e na primeira reserva
+    int getId(RegistroVisitantes registro) {
+        long atual = this.idRegistrado;
+        if ((int) (atual >>> 32) == registro.getGeracao()) {
+            return (int) atual;
+        }
+
+        int id = registro.idDaChave(chaveCpf(this.cpf));
+        this.idRegistrado = (long) registro.getGeracao() << 32 | id;
+        return id;
+    }
+
+    // Id já atribuído no registro, ou RegistroVisitantes.SEM_ID; para consultas, que não criam ids
+    int getIdExistente(RegistroVisitantes registro) {
+        long atual = this.idRegistrado;
+        if ((int) (atual >>> 32) == registro.getGeracao()) {
+            return (int) atual;
+        }
+
+        int id = registro.idExistente(chaveCpf(this.cpf));
+        if (id != RegistroVisitantes.SEM_ID) {
+            this.idRegistrado = (long) registro.getGeracao() << 32 | id;
+        }
+        return id;
+    }
+
+    public LocalDate getDataNascimento() {
+        return dataNascimento;
+    }
+
+    public String getDataNascimentoFormatada() {
+        return dataNascimento.format(FORMATTER);
+    }
+
+    public void setDataNascimento(LocalDate dataNascimento) {
+        this.dataNascimento = dataNascimento;
+    }
+
+    public void setDataNascimento(String dataNascimentoStr) {
+        this.dataNascimento = parseData(dataNascimentoStr);
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        validarEmail(email);
+        this.email = email;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public TipoIngresso getTipoIngresso() {
+        return tipoIngresso;
+    }
+
+    public void setTipoIngresso(TipoIngresso tipoIngresso) {
+        this.tipoIngresso = tipoIngresso;
+    }
+
+    @Override
+    public String toString() {
+        return "Visitante{" +
+                "cpf='" + cpf + '\'' +
+                ", nome='" + nome + '\'' +
+                ", idade=" + calcularIdade() +
+                ", email='" + email + '\'' +
+                ", tipoIngresso=" + tipoIngresso +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Visitante visitante = (Visitante) o;
+        return Objects.equals(cpf, visitante.cpf);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(cpf);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.themepark.model.datastructures;
+
+/**
+ * Árvore de Fenwick (Binary Indexed Tree) de contagens: atualização pontual e
+ * soma de prefixo em O(log n).
+ */
+public class FenwickTree {
+    private final int[] tree;
+
+    public FenwickTree(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+
+        this.tree = new int[capacity + 1];
+    }
+
+    public void add(int index, int delta) {
+        checkIndex(index);
+
+        for (int i = index + 1; i < this.tree.length; i += i & -i) {
+            this.tree[i] += delta;
+        }
+    }
+
+    // Soma dos valores nas posições [0, index]; index -1 representa o prefixo vazio
+    public int prefixSum(int index) {
+        if (index < -1 || index >= getCapacity()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Capacity: " + getCapacity());
+        }
+
+        int sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += this.tree[i];
+        }
+        return sum;
+    }
+
+    public int getCapacity() {
+        return tree.length - 1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= getCapacity()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Capacity: " + getCapacity());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FenwickTree{" +
+                "capacity=" + getCapacity() +
+                '}';
+    }
+}
@@ -0,0 +1,152 @@
+package com.themepark.model.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de chaves int não negativas para valores long, com endereçamento
+ * aberto e sondagem linear sobre dois arrays primitivos: sem objetos por
+ * entrada e sem boxing. A remoção desloca as entradas seguintes para trás,
+ * então não há marcadores de remoção acumulando.
+ */
+public class IntLongHashMap {
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long missingValue;
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    // missingValue é devolvido por get e remove quando a chave não está no mapa
+    public IntLongHashMap(long missingValue) {
+        this.missingValue = missingValue;
+        this.keys = new int[INITIAL_CAPACITY];
+        this.values = new long[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    public long get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? this.values[slot] : this.missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    // Retorna o valor anterior, ou missingValue se a chave não estava no mapa
+    public long put(int key, long value) {
+        checkKey(key);
+
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                long previous = this.values[slot];
+                this.values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        if (++this.size > this.keys.length * 3 / 4) {
+            resize(this.keys.length * 2);
+        }
+        return this.missingValue;
+    }
+
+    // Retorna o valor removido, ou missingValue se a chave não estava no mapa
+    public long remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return this.missingValue;
+        }
+
+        long removed = this.values[slot];
+        this.size--;
+
+        // Puxa para trás as entradas do mesmo agrupamento que ficariam inalcançáveis
+        int mask = this.keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (this.keys[next] != EMPTY) {
+            int home = mix(this.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                this.keys[hole] = this.keys[next];
+                this.values[hole] = this.values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.keys[hole] = EMPTY;
+
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int find(int key) {
+        if (key < 0) {
+            return -1;
+        }
+
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = this.keys;
+        long[] oldValues = this.values;
+
+        this.keys = new int[capacity];
+        this.values = new long[capacity];
+        Arrays.fill(this.keys, EMPTY);
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (this.keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // Espalha chaves sequenciais (ids densos) pela tabela
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void checkKey(int key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Key must be non-negative: " + key);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IntLongHashMap{" +
+                "size=" + size +
+                ", capacity=" + keys.length +
+                '}';
+    }
+}
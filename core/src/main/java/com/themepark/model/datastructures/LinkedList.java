@@ -0,0 +1,287 @@
+package com.themepark.model.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+public class LinkedList<T> implements SequentialList<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    // Reciclagem de nós opcional; null aloca um nó por inserção
+    private final NodePool<T> pool;
+
+    public LinkedList() {
+        this(null);
+    }
+
+    /**
+     * Lista que devolve ao pool os nós removidos e os reaproveita nas inserções.
+     * Como um nó removido pode voltar à lista com outro elemento, os percursos
+     * (iterator, spliterator, stream, getHead) precisam terminar sob o mesmo
+     * lock que protege as alterações.
+     */
+    public LinkedList(NodePool<T> pool) {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.pool = pool;
+    }
+
+    @Override
+    public void addLast(T element) {
+        Node<T> newNode = newNode(element);
+
+        if (this.head == null) {
+            this.head = newNode;
+        } else {
+            this.tail.setNext(newNode);
+        }
+
+        this.tail = newNode;
+        this.size++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + this.size);
+        }
+
+        Node<T> newNode = newNode(element);
+
+        if (index == 0) {
+            newNode.setNext(this.head);
+            this.head = newNode;
+
+            if (this.tail == null) {
+                this.tail = newNode;
+            }
+        } else {
+            Node<T> current = this.head;
+            
+            for (int i = 0; i < index - 1; i++) {
+                current = current.getNext();
+            }
+
+            newNode.setNext(current.getNext());
+            current.setNext(newNode);
+
+            if (index == this.size) {
+                this.tail = newNode;
+            }
+        }
+        this.size++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (this.head == null) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+
+        Node<T> removed = this.head;
+        T removedElement = removed.getElement();
+        this.head = removed.getNext();
+
+        if (this.head == null) {
+            this.tail = null;
+        }
+
+        this.size--;
+        recycle(removed);
+        return removedElement;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        Node<T> current = this.head;
+        Node<T> previous = null;
+
+        while (current != null) {
+            if (current.getElement().equals(element)) {
+                if (previous == null) {
+                    this.removeFirst();
+                } else {
+                    previous.setNext(current.getNext());
+
+                    if (current == this.tail) {
+                        this.tail = previous;
+                    }
+
+                    this.size--;
+                    recycle(current);
+                }
+                return true;
+            }
+
+            previous = current;
+            current = current.getNext();
+        }
+        return false;
+    }
+
+    @Override
+    public int getIndexOf(T element) {
+        Node<T> current = this.head;
+        int index = 0;
+        while (current != null) {
+            if (current.getElement().equals(element)) {
+                return index;
+            }
+            current = current.getNext();
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    public Node<T> getHead() {
+        return head;
+    }
+
+    @Override
+    public T get(int index) {
+    if (index < 0 || index >= this.size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    }
+    
+    Node<T> current = this.head;
+    
+    for (int i = 0; i < index; i++) {
+        current = current.getNext();
+    }
+
+    return current.getElement();
+}
+
+    private Node<T> newNode(T element) {
+        return this.pool != null ? this.pool.acquire(element) : new Node<>(element);
+    }
+
+    private void recycle(Node<T> node) {
+        if (this.pool != null) {
+            this.pool.release(node);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Percorre a lista como ela estava na criação do Spliterator: a cabeça e o
+     * tamanho são lidos aqui e o percurso segue os nós sem passar pela lista.
+     * Criado sob o lock que protege a lista, ele pode ser consumido depois de
+     * o lock ser liberado (exceto com reciclagem de nós); inserções e remoções posteriores podem ou não ser
+     * vistas, mas nenhum elemento é entregue duas vezes. Como uma remoção pode encurtar o
+     * percurso, o tamanho é só uma estimativa (ver {@link #sizedSpliterator()}).
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(this.head, this.size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public Spliterator<T> sizedSpliterator() {
+        return new NodeSpliterator<>(this.head, this.size,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    @Override
+    public String toString() {
+        return "LinkedList{" +
+                "head=" + head +
+                ", tail=" + tail +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * Spliterator sobre uma sequência de nós de tamanho conhecido. A divisão
+     * copia o início da sequência para um array (em lotes crescentes, como os
+     * Spliterators de listas encadeadas do JDK), já que não há como saltar para
+     * o meio de uma lista encadeada.
+     */
+    private static final class NodeSpliterator<T> implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1024;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int remaining;
+        private int batch;
+        private final int characteristics;
+
+        private NodeSpliterator(Node<T> head, int size, int characteristics) {
+            this.current = head;
+            this.remaining = size;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.remaining <= 0 || this.current == null) {
+                return false;
+            }
+
+            T element = this.current.getElement();
+            this.current = this.current.getNext();
+            this.remaining--;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = this.current;
+            int count = this.remaining;
+            this.current = null;
+            this.remaining = 0;
+
+            // Uma remoção concorrente pode encurtar a cadeia antes do tamanho lido
+            while (count-- > 0 && node != null) {
+                action.accept(node.getElement());
+                node = node.getNext();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (this.remaining <= 1 || this.current == null) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            Object[] prefix = new Object[n];
+            int copied = 0;
+            Node<T> node = this.current;
+            while (copied < n && node != null) {
+                prefix[copied++] = node.getElement();
+                node = node.getNext();
+            }
+
+            this.current = node;
+            this.remaining = node != null ? this.remaining - copied : 0;
+            this.batch = copied;
+            // O prefixo já foi copiado, então o tamanho dele é exato
+            return Spliterators.spliterator(prefix, 0, copied, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return this.characteristics;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.themepark.model.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de chaves long não negativas para valores int, com endereçamento aberto
+ * e sondagem linear sobre dois arrays primitivos, como o {@link IntLongHashMap}.
+ * Não tem remoção: serve a índices que só crescem (ids densos pela chave do CPF).
+ */
+public class LongIntHashMap {
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    // missingValue é devolvido por get quando a chave não está no mapa
+    public LongIntHashMap(int missingValue) {
+        this.missingValue = missingValue;
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    public int get(long key) {
+        if (key < 0) {
+            return this.missingValue;
+        }
+
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                return this.values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return this.missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != this.missingValue;
+    }
+
+    // Retorna o valor anterior, ou missingValue se a chave não estava no mapa
+    public int put(long key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Key must be non-negative: " + key);
+        }
+
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                int previous = this.values[slot];
+                this.values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        if (++this.size > this.keys.length * 3 / 4) {
+            resize(this.keys.length * 2);
+        }
+        return this.missingValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(this.keys, EMPTY);
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (this.keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // Mesma mistura do LongObjectHashMap
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "LongIntHashMap{" +
+                "size=" + size +
+                ", capacity=" + keys.length +
+                '}';
+    }
+}
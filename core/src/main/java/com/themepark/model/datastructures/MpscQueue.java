@@ -0,0 +1,66 @@
+package com.themepark.model.datastructures;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fila sem locks para vários produtores e um único consumidor. Cada inserção
+ * é uma única troca atômica no fim da fila; a remoção só lê e escreve campos
+ * do próprio consumidor, então não há contenção entre quem lê e quem escreve.
+ *
+ * Apenas uma thread por vez pode chamar {@link #poll()} e {@link #isEmpty()}.
+ */
+public class MpscQueue<T> {
+    // Último nó inserido, disputado pelos produtores
+    private final AtomicReference<Node<T>> tail;
+    // Nó sentinela do consumidor: o próximo elemento é sempre head.next
+    private Node<T> head;
+
+    public MpscQueue() {
+        Node<T> stub = new Node<>(null);
+        this.tail = new AtomicReference<>(stub);
+        this.head = stub;
+    }
+
+    public void offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("Element cannot be null.");
+        }
+
+        Node<T> node = new Node<>(element);
+        Node<T> previous = this.tail.getAndSet(node);
+        // Entre a troca e esta escrita o nó ainda não é visível ao consumidor
+        previous.next = node;
+    }
+
+    public T poll() {
+        Node<T> next = this.head.next;
+        if (next == null) {
+            return null;
+        }
+
+        T element = next.element;
+        next.element = null;
+        this.head = next;
+        return element;
+    }
+
+    public boolean isEmpty() {
+        return this.head.next == null;
+    }
+
+    @Override
+    public String toString() {
+        return "MpscQueue{" +
+                "empty=" + isEmpty() +
+                '}';
+    }
+
+    private static final class Node<T> {
+        private T element;
+        private volatile Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+    }
+}
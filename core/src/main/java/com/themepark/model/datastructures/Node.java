@@ -1,6 +1,21 @@
 package com.themepark.model.datastructures;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 public class Node<T> {
+    // O encadeamento é publicado com semântica release/acquire: quem alcança um
+    // nó pelo next de outro vê o nó completo, mesmo percorrendo a lista sem lock
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private T element;
     private Node<T> next;
 
@@ -22,12 +37,13 @@ public class Node<T> {
         this.element = element;
     }
 
+    @SuppressWarnings("unchecked")
     public Node<T> getNext() {
-        return next;
+        return (Node<T>) NEXT.getAcquire(this);
     }
 
     public void setNext(Node<T> next) {
-        this.next = next;
+        NEXT.setRelease(this, next);
     }
 
     @Override
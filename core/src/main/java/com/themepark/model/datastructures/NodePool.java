@@ -0,0 +1,88 @@
+package com.themepark.model.datastructures;
+
+/**
+ * Reserva limitada de nós para reaproveitamento: uma {@link LinkedList} criada
+ * com um pool devolve a ele os nós removidos e os reutiliza nas inserções, então
+ * um ciclo estável de inserções e remoções não aloca nada. Os nós livres formam
+ * uma pilha encadeada pelo próprio next; acima da capacidade, os nós devolvidos
+ * são descartados.
+ *
+ * Não é thread-safe: deve ser usado sob o mesmo lock das listas que o
+ * compartilham. Os contadores lidos de outra thread são aproximados.
+ */
+public class NodePool<T> {
+    private final int capacity;
+    private Node<T> free;
+    private int size;
+    private long hits;
+    private long misses;
+
+    public NodePool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+
+        this.capacity = capacity;
+        this.free = null;
+        this.size = 0;
+    }
+
+    Node<T> acquire(T element) {
+        Node<T> node = this.free;
+
+        if (node == null) {
+            this.misses++;
+            return new Node<>(element);
+        }
+
+        this.free = node.getNext();
+        this.size--;
+        this.hits++;
+
+        node.setElement(element);
+        node.setNext(null);
+        return node;
+    }
+
+    void release(Node<T> node) {
+        // O elemento removido não fica preso ao nó livre
+        node.setElement(null);
+
+        if (this.size == this.capacity) {
+            return;
+        }
+
+        node.setNext(this.free);
+        this.free = node;
+        this.size++;
+    }
+
+    // Inserções atendidas com um nó reaproveitado
+    public long getHits() {
+        return hits;
+    }
+
+    // Inserções que precisaram alocar um nó novo
+    public long getMisses() {
+        return misses;
+    }
+
+    // Nós livres no momento
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "NodePool{" +
+                "capacity=" + capacity +
+                ", size=" + size +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
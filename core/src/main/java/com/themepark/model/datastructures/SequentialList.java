@@ -0,0 +1,37 @@
+package com.themepark.model.datastructures;
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Operações comuns às listas sequenciais do pacote ({@link LinkedList} e
+ * {@link UnrolledLinkedList}), para que o código que as usa possa trocar de
+ * implementação sem mudanças.
+ */
+public interface SequentialList<T> extends Iterable<T> {
+    void addLast(T element);
+
+    void add(int index, T element);
+
+    T removeFirst();
+
+    boolean remove(T element);
+
+    int getIndexOf(T element);
+
+    T get(int index);
+
+    int getSize();
+
+    /**
+     * Como {@link #spliterator()}, mas declara SIZED e SUBSIZED. Só para listas
+     * que não perdem elementos durante um percurso (um histórico que só cresce,
+     * por exemplo): uma remoção tornaria o tamanho declarado errado.
+     */
+    Spliterator<T> sizedSpliterator();
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -0,0 +1,179 @@
+package com.themepark.model.datastructures;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contador de elementos mais frequentes (algoritmo Space-Saving) com memória
+ * limitada a {@code capacity} contadores. Enquanto o número de chaves distintas
+ * não passa da capacidade, as contagens são exatas; depois disso, a chave menos
+ * contada é substituída e cada contagem pode superestimar o valor real em no
+ * máximo o seu erro registrado. O elemento mais frequente é respondido em O(1).
+ */
+public class SpaceSavingCounter<K> {
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    // Min-heap pela contagem: a raiz é a chave substituída quando o contador está cheio
+    private final Counter<K>[] heap;
+    private int size;
+    private Counter<K> top;
+    private boolean exact;
+
+    @SuppressWarnings("unchecked")
+    public SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+
+        this.capacity = capacity;
+        this.counters = new HashMap<>();
+        this.heap = (Counter<K>[]) new Counter<?>[capacity];
+        this.size = 0;
+        this.top = null;
+        this.exact = true;
+    }
+
+    public void offer(K key) {
+        Counter<K> counter = this.counters.get(key);
+
+        if (counter == null) {
+            if (this.size < this.capacity) {
+                counter = new Counter<>(key, this.size);
+                this.heap[this.size++] = counter;
+            } else {
+                // Substitui a chave menos contada, herdando sua contagem como erro
+                counter = this.heap[0];
+                this.counters.remove(counter.key);
+                counter.key = key;
+                counter.error = counter.count;
+                this.exact = false;
+            }
+            this.counters.put(key, counter);
+        }
+
+        counter.count++;
+        siftDown(counter.heapIndex);
+        siftUp(counter.heapIndex);
+
+        if (this.top == null || counter.count > this.top.count) {
+            this.top = counter;
+        }
+    }
+
+    public K getTop() {
+        return top != null ? top.key : null;
+    }
+
+    public long getTopCount() {
+        return top != null ? top.count : 0;
+    }
+
+    // Contagem estimada (limite superior) da chave, ou 0 se ela não está sendo acompanhada
+    public long getCount(K key) {
+        Counter<K> counter = this.counters.get(key);
+        return counter != null ? counter.count : 0;
+    }
+
+    // Contagem mínima garantida da chave: estimativa menos o erro herdado
+    public long getGuaranteedCount(K key) {
+        Counter<K> counter = this.counters.get(key);
+        return counter != null ? counter.count - counter.error : 0;
+    }
+
+    /**
+     * Retorna até k chaves em ordem decrescente de contagem, em O(capacity log capacity)
+     */
+    public List<K> getTop(int k) {
+        List<Counter<K>> ordered = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            ordered.add(this.heap[i]);
+        }
+        ordered.sort((a, b) -> Long.compare(b.count, a.count));
+
+        List<K> result = new ArrayList<>(Math.min(k, ordered.size()));
+        for (int i = 0; i < k && i < ordered.size(); i++) {
+            result.add(ordered.get(i).key);
+        }
+        return result;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        Counter<K> counter = this.heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (this.heap[parent].count <= counter.count) {
+                break;
+            }
+
+            this.heap[index] = this.heap[parent];
+            this.heap[index].heapIndex = index;
+            index = parent;
+        }
+
+        this.heap[index] = counter;
+        counter.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        Counter<K> counter = this.heap[index];
+
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+
+            if (left < this.size && this.heap[left].count < this.heap[smallest].count) {
+                smallest = left;
+            }
+            if (right < this.size && this.heap[right].count < this.heap[smallest].count) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                break;
+            }
+
+            this.heap[index] = this.heap[smallest];
+            this.heap[index].heapIndex = index;
+            this.heap[smallest] = counter;
+            counter.heapIndex = smallest;
+            index = smallest;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpaceSavingCounter{" +
+                "capacity=" + capacity +
+                ", size=" + size +
+                ", top=" + getTop() +
+                ", exact=" + exact +
+                '}';
+    }
+
+    private static final class Counter<K> {
+        private K key;
+        private long count;
+        private long error;
+        private int heapIndex;
+
+        private Counter(K key, int heapIndex) {
+            this.key = key;
+            this.heapIndex = heapIndex;
+        }
+    }
+}
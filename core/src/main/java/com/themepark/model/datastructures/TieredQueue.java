@@ -0,0 +1,281 @@
+package com.themepark.model.datastructures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Fila com prioridade por níveis: cada nível mantém seu próprio segmento FIFO.
+ * O nível mais alto é sempre atendido primeiro e, dentro do mesmo nível,
+ * vale a ordem de chegada. Inserção e remoção do primeiro elemento são O(1)
+ * amortizado.
+ *
+ * Cada segmento é um buffer circular indexado pelo número de chegada no nível;
+ * uma saída no meio da fila só esvazia a posição, que é pulada no atendimento.
+ * Cada inserção devolve um identificador primitivo (nível e número de
+ * chegada) que permite remover a entrada em O(1), sem nós nem objetos por
+ * entrada. Uma árvore de Fenwick por nível conta as entradas presentes por
+ * número de chegada, então a posição de qualquer entrada é calculada em O(log n).
+ */
+public class TieredQueue<T> {
+    private static final int INITIAL_TIER_CAPACITY = 16;
+
+    // Identificador devolvido para entradas que não estão na fila
+    public static final long NO_ENTRY = -1L;
+
+    private final Segment<T>[] tiers;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TieredQueue(int tierCount) {
+        if (tierCount <= 0) {
+            throw new IllegalArgumentException("Tier count must be greater than zero.");
+        }
+
+        this.tiers = (Segment<T>[]) new Segment<?>[tierCount];
+        for (int i = 0; i < tierCount; i++) {
+            this.tiers[i] = new Segment<>();
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Adiciona ao fim do nível e retorna o identificador da entrada
+     */
+    public long add(int tier, T element) {
+        checkTier(tier);
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null.");
+        }
+
+        int sequence = this.tiers[tier].add(element);
+        this.size++;
+        return handle(tier, sequence);
+    }
+
+    public T removeFirst() {
+        for (int tier = this.tiers.length - 1; tier >= 0; tier--) {
+            Segment<T> segment = this.tiers[tier];
+
+            if (segment.count > 0) {
+                this.size--;
+                return segment.removeFirst();
+            }
+        }
+
+        throw new NoSuchElementException("The queue is empty.");
+    }
+
+    // Retorna o elemento removido, ou null se a entrada já tinha saído da fila
+    public T remove(long handle) {
+        int tier = tierOf(handle);
+        if (tier < 0) {
+            return null;
+        }
+
+        T removed = this.tiers[tier].remove(sequenceOf(handle));
+        if (removed != null) {
+            this.size--;
+        }
+        return removed;
+    }
+
+    public T get(long handle) {
+        int tier = tierOf(handle);
+        return tier >= 0 ? this.tiers[tier].get(sequenceOf(handle)) : null;
+    }
+
+    public boolean isQueued(long handle) {
+        return get(handle) != null;
+    }
+
+    // Posição (base zero) da entrada na ordem de atendimento, ou -1 se ela já saiu da fila
+    public int getIndexOf(long handle) {
+        if (!isQueued(handle)) {
+            return -1;
+        }
+
+        int tier = tierOf(handle);
+        int offset = 0;
+        for (int higher = this.tiers.length - 1; higher > tier; higher--) {
+            offset += this.tiers[higher].count;
+        }
+
+        return offset + this.tiers[tier].rankOf(sequenceOf(handle));
+    }
+
+    public static int getTier(long handle) {
+        return (int) (handle >>> 32);
+    }
+
+    /**
+     * Retorna os elementos na ordem de atendimento, em O(n)
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(this.size);
+
+        for (int tier = this.tiers.length - 1; tier >= 0; tier--) {
+            this.tiers[tier].collect(result);
+        }
+
+        return result;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getTierCount() {
+        return tiers.length;
+    }
+
+    public int getTierSize(int tier) {
+        checkTier(tier);
+        return tiers[tier].count;
+    }
+
+    private static long handle(int tier, int sequence) {
+        return ((long) tier << 32) | (sequence & 0xFFFFFFFFL);
+    }
+
+    private static int sequenceOf(long handle) {
+        return (int) handle;
+    }
+
+    // Nível do identificador, ou -1 se ele não pode ser desta fila
+    private int tierOf(long handle) {
+        int tier = getTier(handle);
+        return handle >= 0 && tier < this.tiers.length ? tier : -1;
+    }
+
+    private void checkTier(int tier) {
+        if (tier < 0 || tier >= this.tiers.length) {
+            throw new IndexOutOfBoundsException("Tier: " + tier + ", Tier count: " + this.tiers.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TieredQueue{" +
+                "tiers=" + tiers.length +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * Buffer circular de um nível. As chegadas ainda não atendidas ocupam a
+     * janela [head, nextSequence), sempre menor que a capacidade; a chegada s
+     * fica em slots[s & (capacidade - 1)], ou null se já saiu da fila.
+     */
+    private static final class Segment<T> {
+        private Object[] slots = new Object[INITIAL_TIER_CAPACITY];
+        private FenwickTree ranks = new FenwickTree(INITIAL_TIER_CAPACITY);
+        // Número de chegada correspondente à posição 0 da árvore
+        private int base;
+        private int head;
+        private int nextSequence;
+        private int count;
+
+        private int add(T element) {
+            ensureCapacity();
+
+            int sequence = this.nextSequence++;
+            this.slots[sequence & (this.slots.length - 1)] = element;
+            this.ranks.add(sequence - this.base, 1);
+            this.count++;
+            return sequence;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T removeFirst() {
+            // Pula as posições esvaziadas por saídas no meio da fila
+            while (this.slots[this.head & (this.slots.length - 1)] == null) {
+                this.head++;
+            }
+
+            int sequence = this.head++;
+            int slot = sequence & (this.slots.length - 1);
+            T element = (T) this.slots[slot];
+            this.slots[slot] = null;
+            release(sequence);
+            return element;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int sequence) {
+            if (sequence - this.head < 0 || sequence - this.nextSequence >= 0) {
+                return null;
+            }
+            return (T) this.slots[sequence & (this.slots.length - 1)];
+        }
+
+        private T remove(int sequence) {
+            T element = get(sequence);
+            if (element != null) {
+                this.slots[sequence & (this.slots.length - 1)] = null;
+                release(sequence);
+            }
+            return element;
+        }
+
+        private int rankOf(int sequence) {
+            return this.ranks.prefixSum(sequence - this.base - 1);
+        }
+
+        private void release(int sequence) {
+            this.ranks.add(sequence - this.base, -1);
+            this.count--;
+
+            // Vazio, todas as contagens já voltaram a zero: a árvore serve como está para a nova base
+            if (this.count == 0) {
+                this.base = this.nextSequence;
+                this.head = this.nextSequence;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void collect(List<T> result) {
+            int mask = this.slots.length - 1;
+            for (int sequence = this.head; sequence != this.nextSequence; sequence++) {
+                Object element = this.slots[sequence & mask];
+                if (element != null) {
+                    result.add((T) element);
+                }
+            }
+        }
+
+        // Garante espaço para o próximo número de chegada. Se a maior parte da
+        // árvore já foi atendida, desloca a base; caso contrário, dobra a capacidade.
+        private void ensureCapacity() {
+            int capacity = this.slots.length;
+            if (this.nextSequence - this.base < capacity) {
+                return;
+            }
+
+            while (this.head != this.nextSequence && this.slots[this.head & (capacity - 1)] == null) {
+                this.head++;
+            }
+
+            int span = this.nextSequence - this.head;
+            int newCapacity = span < capacity / 2 ? capacity : capacity * 2;
+            Object[] newSlots = newCapacity == capacity ? this.slots : new Object[newCapacity];
+            FenwickTree rebuilt = new FenwickTree(newCapacity);
+
+            for (int sequence = this.head; sequence != this.nextSequence; sequence++) {
+                Object element = this.slots[sequence & (capacity - 1)];
+                if (element != null) {
+                    newSlots[sequence & (newCapacity - 1)] = element;
+                    rebuilt.add(sequence - this.head, 1);
+                }
+            }
+
+            this.slots = newSlots;
+            this.ranks = rebuilt;
+            this.base = this.head;
+        }
+    }
+}
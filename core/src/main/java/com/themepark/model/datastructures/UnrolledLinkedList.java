@@ -0,0 +1,394 @@
+package com.themepark.model.datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Lista desenrolada: os elementos ficam em blocos encadeados de até
+ * {@link #BLOCK_SIZE} posições contíguas. Percorrer a lista lê arrays em
+ * sequência em vez de seguir um ponteiro por elemento, e cada elemento custa
+ * uma referência em vez de um nó.
+ *
+ * Inserir no fim e remover do início alteram os blocos no lugar; as demais
+ * alterações (inserção no meio, remoção de um elemento qualquer) trocam o
+ * bloco afetado por uma cópia. Assim os percursos têm as mesmas garantias dos
+ * da {@link LinkedList}: criados sob o lock da lista, podem continuar depois
+ * de o lock ser liberado sem entregar um elemento duas vezes.
+ *
+ * A remoção do início não limpa a posição liberada (um percurso em andamento
+ * ainda pode lê-la); a referência só é solta quando o bloco inteiro é descartado.
+ */
+public class UnrolledLinkedList<T> implements SequentialList<T> {
+    public static final int BLOCK_SIZE = 64;
+
+    private Block<T> head;
+    private Block<T> tail;
+    private int size;
+
+    public UnrolledLinkedList() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    @Override
+    public void addLast(T element) {
+        Block<T> last = this.tail;
+
+        if (last == null || last.end == BLOCK_SIZE) {
+            Block<T> block = new Block<>();
+            block.elements[0] = element;
+            block.setEnd(1);
+
+            if (last == null) {
+                this.head = block;
+            } else {
+                last.setNext(block);
+            }
+            this.tail = block;
+        } else {
+            last.elements[last.end] = element;
+            last.setEnd(last.end + 1);
+        }
+
+        this.size++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index out of bounds. Must be between 0 and " + this.size);
+        }
+
+        if (index == this.size) {
+            addLast(element);
+            return;
+        }
+
+        Block<T> previous = null;
+        Block<T> block = this.head;
+        int offset = index;
+        while (offset >= block.count()) {
+            offset -= block.count();
+            previous = block;
+            block = block.getNext();
+        }
+
+        Block<T> first = block.with(offset, element);
+        replace(previous, block, first, first.next != block.next ? first.next : first);
+        this.size++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (this.head == null) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+
+        Block<T> first = this.head;
+        @SuppressWarnings("unchecked")
+        T removedElement = (T) first.elements[first.start];
+        first.start++;
+
+        if (first.start == first.end) {
+            this.head = first.getNext();
+
+            if (this.head == null) {
+                this.tail = null;
+            }
+        }
+
+        this.size--;
+        return removedElement;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        Block<T> previous = null;
+
+        for (Block<T> block = this.head; block != null; block = block.getNext()) {
+            for (int i = block.start; i < block.end; i++) {
+                if (block.elements[i].equals(element)) {
+                    Block<T> replacement = block.without(i);
+                    replace(previous, block, replacement, replacement);
+                    this.size--;
+                    return true;
+                }
+            }
+            previous = block;
+        }
+        return false;
+    }
+
+    @Override
+    public int getIndexOf(T element) {
+        int index = 0;
+
+        for (Block<T> block = this.head; block != null; block = block.getNext()) {
+            for (int i = block.start; i < block.end; i++) {
+                if (block.elements[i].equals(element)) {
+                    return index + i - block.start;
+                }
+            }
+            index += block.count();
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        Block<T> block = this.head;
+        int offset = index;
+        while (offset >= block.count()) {
+            offset -= block.count();
+            block = block.getNext();
+        }
+
+        return (T) block.elements[block.start + offset];
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    // Mesmas garantias de LinkedList.spliterator
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BlockSpliterator<>(this.head, this.size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public Spliterator<T> sizedSpliterator() {
+        return new BlockSpliterator<>(this.head, this.size,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    // Troca old pelos blocos first..last (já encadeados ao sucessor de old), ou o retira se first for null
+    private void replace(Block<T> previous, Block<T> old, Block<T> first, Block<T> last) {
+        Block<T> link = first != null ? first : old.getNext();
+
+        if (previous == null) {
+            this.head = link;
+        } else {
+            previous.setNext(link);
+        }
+
+        if (old == this.tail) {
+            this.tail = last != null ? last : previous;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnrolledLinkedList{" +
+                "size=" + size +
+                ", blockSize=" + BLOCK_SIZE +
+                '}';
+    }
+
+    /**
+     * Bloco de posições contíguas; os elementos ocupam [start, end). O fim e o
+     * encadeamento são publicados com release/acquire, como em {@link Node}.
+     */
+    private static final class Block<T> {
+        private static final VarHandle END;
+        private static final VarHandle NEXT;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                END = lookup.findVarHandle(Block.class, "end", int.class);
+                NEXT = lookup.findVarHandle(Block.class, "next", Block.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Object[] elements = new Object[BLOCK_SIZE];
+        private int start;
+        private int end;
+        private Block<T> next;
+
+        private int count() {
+            return this.end - this.start;
+        }
+
+        private int getEnd() {
+            return (int) END.getAcquire(this);
+        }
+
+        private void setEnd(int end) {
+            END.setRelease(this, end);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Block<T> getNext() {
+            return (Block<T>) NEXT.getAcquire(this);
+        }
+
+        private void setNext(Block<T> next) {
+            NEXT.setRelease(this, next);
+        }
+
+        // Cópia sem a posição i, encadeada ao mesmo sucessor; null se o bloco ficaria vazio
+        private Block<T> without(int i) {
+            if (count() == 1) {
+                return null;
+            }
+
+            Block<T> copy = new Block<>();
+            int before = i - this.start;
+            System.arraycopy(this.elements, this.start, copy.elements, 0, before);
+            System.arraycopy(this.elements, i + 1, copy.elements, before, this.end - i - 1);
+            copy.end = count() - 1;
+            copy.next = this.next;
+            return copy;
+        }
+
+        // Cópia com o elemento inserido na posição relativa offset; um bloco cheio vira dois
+        private Block<T> with(int offset, T element) {
+            int count = count();
+            Object[] merged = new Object[count + 1];
+            System.arraycopy(this.elements, this.start, merged, 0, offset);
+            merged[offset] = element;
+            System.arraycopy(this.elements, this.start + offset, merged, offset + 1, count - offset);
+
+            Block<T> first = new Block<>();
+            if (merged.length <= BLOCK_SIZE) {
+                System.arraycopy(merged, 0, first.elements, 0, merged.length);
+                first.end = merged.length;
+                first.next = this.next;
+                return first;
+            }
+
+            Block<T> second = new Block<>();
+            int half = merged.length / 2;
+            System.arraycopy(merged, 0, first.elements, 0, half);
+            System.arraycopy(merged, half, second.elements, 0, merged.length - half);
+            first.end = half;
+            second.end = merged.length - half;
+            second.next = this.next;
+            first.next = second;
+            return first;
+        }
+    }
+
+    /**
+     * Percorre os blocos lendo direto dos arrays. A divisão copia o início da
+     * sequência em lotes crescentes, como em LinkedList.
+     */
+    private static final class BlockSpliterator<T> implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1024;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Block<T> block;
+        private int index;
+        private int remaining;
+        private int batch;
+        private final int characteristics;
+
+        private BlockSpliterator(Block<T> head, int size, int characteristics) {
+            this.block = head;
+            this.index = head != null ? head.start : 0;
+            this.remaining = size;
+            this.characteristics = characteristics;
+        }
+
+        // Vai até o próximo bloco com elementos; false se a cadeia terminou antes do tamanho lido
+        private boolean seek() {
+            while (this.block != null && this.index >= this.block.getEnd()) {
+                this.block = this.block.getNext();
+                this.index = this.block != null ? this.block.start : 0;
+            }
+            return this.block != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.remaining <= 0 || !seek()) {
+                return false;
+            }
+
+            T element = (T) this.block.elements[this.index++];
+            this.remaining--;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Block<T> current = this.block;
+            int i = this.index;
+            int left = this.remaining;
+            this.block = null;
+            this.remaining = 0;
+
+            while (left > 0 && current != null) {
+                Object[] elements = current.elements;
+                int n = Math.min(current.getEnd() - i, left);
+
+                for (int k = 0; k < n; k++) {
+                    action.accept((T) elements[i + k]);
+                }
+
+                left -= Math.max(n, 0);
+                current = current.getNext();
+                i = current != null ? current.start : 0;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (this.remaining <= 1 || !seek()) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            Object[] prefix = new Object[n];
+            int copied = 0;
+            while (copied < n && seek()) {
+                int available = Math.min(this.block.getEnd() - this.index, n - copied);
+                System.arraycopy(this.block.elements, this.index, prefix, copied, available);
+                this.index += available;
+                copied += available;
+            }
+
+            this.remaining = this.block != null ? this.remaining - copied : 0;
+            this.batch = copied;
+            return Spliterators.spliterator(prefix, 0, copied, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return this.characteristics;
+        }
+    }
+}
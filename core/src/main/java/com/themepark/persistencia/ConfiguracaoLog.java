@@ -0,0 +1,68 @@
+package com.themepark.persistencia;
+
+/**
+ * Parâmetros do agrupamento de gravações (group commit) do log.
+ */
+public final class ConfiguracaoLog {
+    public static final int TAMANHO_LOTE_PADRAO = 1 << 20;
+    public static final long INTERVALO_FSYNC_PADRAO_MILLIS = 100;
+
+    private final PoliticaFsync politica;
+    private final int tamanhoLote;
+    private final long esperaLoteMicros;
+    private final long intervaloFsyncMillis;
+
+    /**
+     * @param politica             quando forçar os dados para o disco
+     * @param tamanhoLote          bytes acumulados por gravação; um registro maior que isso ganha um lote só seu
+     * @param esperaLoteMicros     quanto o gravador espera por mais registros antes de gravar um lote incompleto
+     * @param intervaloFsyncMillis intervalo mínimo entre fsyncs na política PERIODICA
+     */
+    public ConfiguracaoLog(PoliticaFsync politica, int tamanhoLote, long esperaLoteMicros, long intervaloFsyncMillis) {
+        if (politica == null) {
+            throw new IllegalArgumentException("Política de fsync não pode ser nula");
+        }
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser maior que zero");
+        }
+        if (esperaLoteMicros < 0 || intervaloFsyncMillis < 0) {
+            throw new IllegalArgumentException("Intervalos não podem ser negativos");
+        }
+
+        this.politica = politica;
+        this.tamanhoLote = tamanhoLote;
+        this.esperaLoteMicros = esperaLoteMicros;
+        this.intervaloFsyncMillis = intervaloFsyncMillis;
+    }
+
+    // Sem espera extra: os registros que chegam durante uma gravação formam o próximo lote
+    public static ConfiguracaoLog padrao(PoliticaFsync politica) {
+        return new ConfiguracaoLog(politica, TAMANHO_LOTE_PADRAO, 0, INTERVALO_FSYNC_PADRAO_MILLIS);
+    }
+
+    public PoliticaFsync getPolitica() {
+        return politica;
+    }
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public long getEsperaLoteMicros() {
+        return esperaLoteMicros;
+    }
+
+    public long getIntervaloFsyncMillis() {
+        return intervaloFsyncMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfiguracaoLog{" +
+                "politica=" + politica +
+                ", tamanhoLote=" + tamanhoLote +
+                ", esperaLoteMicros=" + esperaLoteMicros +
+                ", intervaloFsyncMillis=" + intervaloFsyncMillis +
+                '}';
+    }
+}
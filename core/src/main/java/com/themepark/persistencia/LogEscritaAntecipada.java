@@ -0,0 +1,427 @@
+package com.themepark.persistencia;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Log binário de escrita antecipada (write-ahead log) sobre um FileChannel.
+ *
+ * Os registros são copiados para um buffer em memória e uma única thread
+ * gravadora os escreve em lotes (group commit): tudo o que chega enquanto um
+ * lote está sendo gravado e forçado vai junto no próximo, então um fsync
+ * atende muitos registros. {@link #anexar(byte[])} só copia o registro e
+ * devolve o seu número de sequência (LSN); {@link #aguardar(long)} bloqueia
+ * até que ele esteja gravado segundo a {@link PoliticaFsync} configurada.
+ *
+ * Cada registro é gravado como [tamanho][CRC32][conteúdo]. Na abertura, o
+ * arquivo é lido a partir da posição pedida (o início, ou o ponto de corte de
+ * um instantâneo) e um final incompleto ou corrompido (queda no meio de uma
+ * gravação) é descartado.
+ */
+public final class LogEscritaAntecipada implements AutoCloseable {
+    // Tamanho e CRC32 do conteúdo, um int cada
+    private static final int TAMANHO_CABECALHO = 8;
+
+    private final ConfiguracaoLog configuracao;
+    private final FileChannel canal;
+    private final Thread gravador;
+
+    private final ReentrantLock lock;
+    private final Condition haRegistros;
+    private final Condition haEspaco;
+    private final Condition loteGravado;
+
+    // Recebe os registros novos; trocado com emGravacao a cada lote
+    private ByteBuffer pendente;
+    // Só a thread gravadora acessa, fora do lock
+    private ByteBuffer emGravacao;
+    private long ultimoLsn;
+    // Posição no arquivo logo após o último registro anexado (gravado ou não)
+    private long posicaoAnexada;
+    private long lsnGravado;
+    private long lsnDuravel;
+    private long ultimoFsync;
+    private IOException falha;
+    private boolean fechado;
+
+    /**
+     * Abre (ou cria) o log. Os registros já existentes são entregues, em
+     * ordem, a {@code reproducao} antes de qualquer nova gravação.
+     */
+    public LogEscritaAntecipada(Path arquivo, ConfiguracaoLog configuracao, Consumer<ByteBuffer> reproducao)
+            throws IOException {
+        this(arquivo, configuracao, 0, reproducao);
+    }
+
+    /**
+     * Abre o log reproduzindo apenas os registros a partir de {@code posicaoInicial},
+     * que deve ser o início de um registro (ex.: o ponto de corte de um instantâneo).
+     */
+    public LogEscritaAntecipada(Path arquivo, ConfiguracaoLog configuracao, long posicaoInicial,
+                                Consumer<ByteBuffer> reproducao) throws IOException {
+        this.configuracao = configuracao;
+        this.canal = FileChannel.open(arquivo,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (posicaoInicial > this.canal.size()) {
+                throw new IOException("Log termina antes da posição " + posicaoInicial
+                        + "; o instantâneo é mais novo que o log");
+            }
+
+            long fimValido = reproduzir(this.canal, posicaoInicial, reproducao);
+            if (fimValido < this.canal.size()) {
+                this.canal.truncate(fimValido);
+                this.canal.force(true);
+            }
+            this.canal.position(fimValido);
+            this.posicaoAnexada = fimValido;
+        } catch (IOException | RuntimeException e) {
+            this.canal.close();
+            throw e;
+        }
+
+        this.lock = new ReentrantLock();
+        this.haRegistros = this.lock.newCondition();
+        this.haEspaco = this.lock.newCondition();
+        this.loteGravado = this.lock.newCondition();
+        this.pendente = ByteBuffer.allocateDirect(configuracao.getTamanhoLote());
+        this.emGravacao = ByteBuffer.allocateDirect(configuracao.getTamanhoLote());
+        this.ultimoFsync = System.nanoTime();
+
+        this.gravador = new Thread(this::gravar, "log-gravador-" + arquivo.getFileName());
+        this.gravador.setDaemon(true);
+        this.gravador.start();
+    }
+
+    /**
+     * Copia o registro para o próximo lote e retorna o seu LSN. Não espera a
+     * gravação; bloqueia apenas se o buffer do lote estiver cheio.
+     */
+    public long anexar(byte[] dados) {
+        return anexar(dados, 0, dados != null ? dados.length : 0);
+    }
+
+    /**
+     * Como {@link #anexar(byte[])}, com um trecho de um buffer que quem chama
+     * pode reutilizar assim que o método retornar
+     */
+    public long anexar(byte[] dados, int inicio, int tamanho) {
+        if (dados == null || tamanho <= 0) {
+            throw new IllegalArgumentException("Registro não pode ser vazio");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(dados, inicio, tamanho);
+        int total = TAMANHO_CABECALHO + tamanho;
+
+        this.lock.lock();
+        try {
+            verificarDisponivel();
+
+            while (this.pendente.remaining() < total) {
+                if (this.pendente.position() == 0) {
+                    // Registro maior que o lote: ganha um buffer só para ele
+                    this.pendente = ByteBuffer.allocateDirect(total);
+                    break;
+                }
+                this.haRegistros.signal();
+                this.haEspaco.awaitUninterruptibly();
+                verificarDisponivel();
+            }
+
+            this.pendente.putInt(tamanho);
+            this.pendente.putInt((int) crc.getValue());
+            this.pendente.put(dados, inicio, tamanho);
+
+            long lsn = ++this.ultimoLsn;
+            this.posicaoAnexada += total;
+            this.haRegistros.signal();
+            return lsn;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Bloqueia até o registro estar durável: forçado para o disco em
+     * POR_LOTE, ou entregue ao sistema operacional nas demais políticas.
+     */
+    public void aguardar(long lsn) {
+        this.lock.lock();
+        try {
+            while (lsnConfirmado() < lsn) {
+                if (this.falha != null) {
+                    throw new UncheckedIOException("Falha ao gravar o log", this.falha);
+                }
+                this.loteGravado.awaitUninterruptibly();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Grava e força para o disco tudo o que foi anexado até agora, qualquer que
+     * seja a política. Usado antes de um instantâneo apontar para uma posição do log.
+     */
+    public void sincronizar() throws IOException {
+        this.lock.lock();
+        try {
+            long alvo = this.ultimoLsn;
+            while (this.lsnGravado < alvo) {
+                verificarDisponivel();
+                this.loteGravado.awaitUninterruptibly();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.canal.force(false);
+    }
+
+    // Posição logo após o último registro anexado: reabrir o log a partir dela reproduz só o que vier depois
+    public long getPosicaoAnexada() {
+        this.lock.lock();
+        try {
+            return this.posicaoAnexada;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long lsnConfirmado() {
+        return this.configuracao.getPolitica() == PoliticaFsync.POR_LOTE ? this.lsnDuravel : this.lsnGravado;
+    }
+
+    private void verificarDisponivel() {
+        if (this.falha != null) {
+            throw new UncheckedIOException("Falha ao gravar o log", this.falha);
+        }
+        if (this.fechado) {
+            throw new IllegalStateException("Log fechado");
+        }
+    }
+
+    public ConfiguracaoLog getConfiguracao() {
+        return configuracao;
+    }
+
+    // ========== THREAD GRAVADORA ==========
+
+    private void gravar() {
+        PoliticaFsync politica = this.configuracao.getPolitica();
+        long intervaloFsync = TimeUnit.MILLISECONDS.toNanos(this.configuracao.getIntervaloFsyncMillis());
+
+        while (true) {
+            long lote;
+            boolean encerrar;
+
+            this.lock.lock();
+            try {
+                aguardarLote(intervaloFsync);
+
+                ByteBuffer cheio = this.pendente;
+                this.pendente = this.emGravacao;
+                this.emGravacao = cheio;
+
+                lote = this.ultimoLsn;
+                encerrar = this.fechado;
+                this.haEspaco.signalAll();
+            } catch (InterruptedException e) {
+                registrarFalha(new InterruptedIOException("Thread gravadora interrompida"));
+                return;
+            } finally {
+                this.lock.unlock();
+            }
+
+            try {
+                this.emGravacao.flip();
+                while (this.emGravacao.hasRemaining()) {
+                    this.canal.write(this.emGravacao);
+                }
+                if (this.emGravacao.capacity() > this.configuracao.getTamanhoLote()) {
+                    this.emGravacao = ByteBuffer.allocateDirect(this.configuracao.getTamanhoLote());
+                } else {
+                    this.emGravacao.clear();
+                }
+
+                // lsnDuravel só é escrito por esta thread, então pode ser lido sem o lock
+                boolean forcar = lote > this.lsnDuravel && switch (politica) {
+                    case POR_LOTE -> true;
+                    case PERIODICA -> encerrar || System.nanoTime() - this.ultimoFsync >= intervaloFsync;
+                    case NUNCA -> false;
+                };
+                if (forcar) {
+                    this.canal.force(false);
+                    this.ultimoFsync = System.nanoTime();
+                }
+
+                this.lock.lock();
+                try {
+                    this.lsnGravado = lote;
+                    if (forcar) {
+                        this.lsnDuravel = lote;
+                    }
+                    this.loteGravado.signalAll();
+                } finally {
+                    this.lock.unlock();
+                }
+            } catch (IOException e) {
+                registrarFalha(e);
+                return;
+            }
+
+            if (encerrar) {
+                return;
+            }
+        }
+    }
+
+    // Chamado com o lock: espera registros novos, o prazo do fsync periódico ou o fechamento
+    private void aguardarLote(long intervaloFsync) throws InterruptedException {
+        boolean periodica = this.configuracao.getPolitica() == PoliticaFsync.PERIODICA;
+
+        while (this.pendente.position() == 0 && !this.fechado) {
+            if (periodica && this.lsnDuravel < this.lsnGravado) {
+                long restante = this.ultimoFsync + intervaloFsync - System.nanoTime();
+                if (restante <= 0) {
+                    return;
+                }
+                this.haRegistros.awaitNanos(restante);
+            } else {
+                this.haRegistros.await();
+            }
+        }
+
+        // Segura um lote incompleto por um instante para que ele cresça
+        long espera = TimeUnit.MICROSECONDS.toNanos(this.configuracao.getEsperaLoteMicros());
+        if (espera > 0) {
+            long prazo = System.nanoTime() + espera;
+            while (this.pendente.position() < this.configuracao.getTamanhoLote() && !this.fechado) {
+                long restante = prazo - System.nanoTime();
+                if (restante <= 0) {
+                    break;
+                }
+                this.haRegistros.awaitNanos(restante);
+            }
+        }
+    }
+
+    private void registrarFalha(IOException e) {
+        this.lock.lock();
+        try {
+            this.falha = e;
+            this.loteGravado.signalAll();
+            this.haEspaco.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // ========== LEITURA ==========
+
+    // Entrega os registros válidos em ordem e retorna a posição logo após o último deles
+    private static long reproduzir(FileChannel canal, long posicaoInicial, Consumer<ByteBuffer> reproducao)
+            throws IOException {
+        long tamanhoArquivo = canal.size();
+        long posicao = posicaoInicial;
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        ByteBuffer conteudo = ByteBuffer.allocate(256);
+        CRC32 crc = new CRC32();
+
+        while (posicao + TAMANHO_CABECALHO <= tamanhoArquivo) {
+            cabecalho.clear();
+            lerCompleto(canal, cabecalho, posicao);
+            cabecalho.flip();
+
+            int tamanho = cabecalho.getInt();
+            int crcEsperado = cabecalho.getInt();
+            if (tamanho <= 0 || posicao + TAMANHO_CABECALHO + tamanho > tamanhoArquivo) {
+                break;
+            }
+
+            if (conteudo.capacity() < tamanho) {
+                conteudo = ByteBuffer.allocate(Math.max(tamanho, conteudo.capacity() * 2));
+            }
+            conteudo.clear().limit(tamanho);
+            lerCompleto(canal, conteudo, posicao + TAMANHO_CABECALHO);
+            conteudo.flip();
+
+            crc.reset();
+            crc.update(conteudo.array(), 0, tamanho);
+            if ((int) crc.getValue() != crcEsperado) {
+                break;
+            }
+
+            if (reproducao != null) {
+                reproducao.accept(conteudo.asReadOnlyBuffer());
+            }
+            posicao += TAMANHO_CABECALHO + tamanho;
+        }
+
+        return posicao;
+    }
+
+    private static void lerCompleto(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new IOException("Fim inesperado do log");
+            }
+            posicao += lidos;
+        }
+    }
+
+    // ========== ENCERRAMENTO ==========
+
+    /**
+     * Grava o que estiver pendente e fecha o arquivo. O último lote é forçado
+     * com POR_LOTE e PERIODICA; com NUNCA, fica a cargo do sistema operacional.
+     */
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            if (this.fechado) {
+                return;
+            }
+            this.fechado = true;
+            this.haRegistros.signalAll();
+            this.haEspaco.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+
+        try {
+            this.gravador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.canal.close();
+        }
+
+        if (this.falha != null) {
+            throw this.falha;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LogEscritaAntecipada{" +
+                "politica=" + configuracao.getPolitica() +
+                ", ultimoLsn=" + ultimoLsn +
+                ", lsnDuravel=" + lsnDuravel +
+                '}';
+    }
+}
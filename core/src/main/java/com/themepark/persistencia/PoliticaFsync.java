@@ -0,0 +1,13 @@
+package com.themepark.persistencia;
+
+/**
+ * Quando o log de escrita antecipada força os dados para o disco.
+ */
+public enum PoliticaFsync {
+    // Cada lote gravado é forçado; quem registrou só continua depois do fsync do seu lote
+    POR_LOTE,
+    // Os lotes são gravados logo, mas o fsync acontece no máximo uma vez por intervalo
+    PERIODICA,
+    // Nunca força: o sistema operacional decide quando os dados chegam ao disco
+    NUNCA
+}
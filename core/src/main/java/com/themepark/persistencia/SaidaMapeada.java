@@ -0,0 +1,95 @@
+package com.themepark.persistencia;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escrita sequencial num arquivo através de janelas mapeadas em memória
+ * (MappedByteBuffer). Quando a janela atual acaba, ela é forçada para o disco
+ * e uma nova, maior, é mapeada a partir da posição corrente; no fim o arquivo
+ * é cortado no tamanho exato do que foi escrito.
+ */
+public final class SaidaMapeada implements AutoCloseable {
+    private static final int JANELA_MAXIMA = 1 << 30;
+
+    private final FileChannel canal;
+    private MappedByteBuffer janela;
+    private long inicioJanela;
+    private boolean concluida;
+
+    /**
+     * Cria (ou sobrescreve) o arquivo e mapeia a primeira janela
+     */
+    public SaidaMapeada(Path arquivo, int tamanhoInicial) throws IOException {
+        if (tamanhoInicial <= 0) {
+            throw new IllegalArgumentException("Tamanho inicial deve ser maior que zero");
+        }
+
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            this.janela = this.canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoInicial);
+        } catch (IOException | RuntimeException e) {
+            this.canal.close();
+            throw e;
+        }
+    }
+
+    // Copia o trecho para a janela, remapeando quantas vezes for preciso
+    public void escrever(byte[] dados, int inicio, int tamanho) throws IOException {
+        while (tamanho > 0) {
+            garantirEspaco(Math.min(tamanho, JANELA_MAXIMA));
+            int parte = Math.min(tamanho, this.janela.remaining());
+            this.janela.put(dados, inicio, parte);
+            inicio += parte;
+            tamanho -= parte;
+        }
+    }
+
+    // Posição no arquivo do próximo byte a ser escrito
+    public long getPosicao() {
+        return this.inicioJanela + this.janela.position();
+    }
+
+    /**
+     * Força o conteúdo para o disco e corta o arquivo no tamanho escrito
+     */
+    public void concluir() throws IOException {
+        this.janela.force();
+        this.canal.truncate(getPosicao());
+        this.canal.force(true);
+        this.concluida = true;
+    }
+
+    private void garantirEspaco(int bytes) throws IOException {
+        if (this.janela.remaining() >= bytes) {
+            return;
+        }
+
+        long posicao = getPosicao();
+        int tamanho = (int) Math.min(Math.max((long) this.janela.capacity() * 2, bytes), JANELA_MAXIMA);
+
+        this.janela.force();
+        this.janela = this.canal.map(FileChannel.MapMode.READ_WRITE, posicao, tamanho);
+        this.inicioJanela = posicao;
+    }
+
+    /**
+     * Fecha o arquivo. Sem {@link #concluir()}, o conteúdo não deve ser considerado válido.
+     */
+    @Override
+    public void close() throws IOException {
+        this.canal.close();
+    }
+
+    @Override
+    public String toString() {
+        return "SaidaMapeada{" +
+                "posicao=" + getPosicao() +
+                ", concluida=" + concluida +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+module com.themepark.core {
+    // Núcleo do parque: modelo e estruturas de dados, sem nenhuma dependência de JavaFX
+
+    exports com.themepark.model;
+    exports com.themepark.model.datastructures;
+    exports com.themepark.persistencia;
+
+    // Aberto para reflexão (ex.: PropertyValueFactory das TableViews, no javafx.base)
+    // sem que este módulo precise conhecer o JavaFX
+    opens com.themepark.model;
+}
@@ -0,0 +1,393 @@
+package com.themepark.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.themepark.model.Atracao;
+import com.themepark.model.DiarioOperacoes;
+import com.themepark.model.SistemaParque;
+import com.themepark.model.TextoJson;
+import com.themepark.model.Visitante;
+import com.themepark.persistencia.ConfiguracaoLog;
+import com.themepark.persistencia.PoliticaFsync;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor HTTP sem interface gráfica para totens e celulares. Cada requisição
+ * roda na sua própria thread virtual e chama diretamente os métodos de
+ * {@link SistemaParque}; as respostas são JSON.
+ *
+ * Parâmetros vão na query string (ou no corpo, como formulário, nos POSTs):
+ * - POST /filas/entrar?cpf=&atracao=
+ * - POST /filas/sair?cpf=&atracao=
+ * - GET  /filas/posicao?cpf=&atracao=
+ * - GET  /filas/espera?cpf=&atracao=
+ * - POST /sessoes/processar?atracao=
+ */
+public class ServidorParque {
+    public static final int PORTA_PADRAO = 8080;
+    // Fila de conexões pendentes do socket; o padrão do sistema (50) é pequeno para picos na abertura do parque
+    private static final int BACKLOG_PADRAO = 8192;
+    private static final System.Logger LOG = System.getLogger(ServidorParque.class.getName());
+
+    private final SistemaParque sistema;
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+
+    public ServidorParque(SistemaParque sistema, InetSocketAddress endereco, int backlog) throws IOException {
+        this.sistema = sistema;
+        this.servidor = HttpServer.create(endereco, backlog);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        this.servidor.createContext("/filas/entrar", tratar("POST", this::entrarNaFila));
+        this.servidor.createContext("/filas/sair", tratar("POST", this::sairDaFila));
+        this.servidor.createContext("/filas/posicao", tratar("GET", this::consultarPosicao));
+        this.servidor.createContext("/filas/espera", tratar("GET", this::estimarTempoEspera));
+        this.servidor.createContext("/sessoes/processar", tratar("POST", this::processarSessao));
+        this.servidor.setExecutor(this.executor);
+    }
+
+    public void iniciar() {
+        this.servidor.start();
+    }
+
+    public void parar(int segundosDeEspera) {
+        this.servidor.stop(segundosDeEspera);
+        this.executor.shutdown();
+    }
+
+    public InetSocketAddress getEndereco() {
+        return servidor.getAddress();
+    }
+
+    // ========== ENDPOINTS ==========
+
+    private Resposta entrarNaFila(Map<String, String> parametros) {
+        Visitante visitante = exigirVisitante(parametros);
+        Atracao atracao = exigirAtracao(parametros);
+
+        this.sistema.adicionarVisitanteNaFila(visitante, atracao);
+
+        return new Resposta(201, new Json()
+                .campo("cpf", visitante.getCpf())
+                .campo("atracao", atracao.getNome())
+                .campo("posicao", this.sistema.consultarPosicaoNaFila(visitante, atracao))
+                .campo("tempoEsperaMinutos", this.sistema.estimarTempoEspera(visitante, atracao)));
+    }
+
+    private Resposta sairDaFila(Map<String, String> parametros) {
+        Visitante visitante = exigirVisitante(parametros);
+        Atracao atracao = exigirAtracao(parametros);
+
+        this.sistema.removerVisitanteDaFila(visitante, atracao);
+
+        return new Resposta(200, new Json()
+                .campo("cpf", visitante.getCpf())
+                .campo("atracao", atracao.getNome()));
+    }
+
+    private Resposta consultarPosicao(Map<String, String> parametros) {
+        Visitante visitante = exigirVisitante(parametros);
+        Atracao atracao = exigirAtracao(parametros);
+
+        int posicao = this.sistema.consultarPosicaoNaFila(visitante, atracao);
+        if (posicao == -1) {
+            return erro(404, "Visitante não está nesta fila");
+        }
+
+        return new Resposta(200, new Json()
+                .campo("cpf", visitante.getCpf())
+                .campo("atracao", atracao.getNome())
+                .campo("posicao", posicao));
+    }
+
+    private Resposta estimarTempoEspera(Map<String, String> parametros) {
+        Visitante visitante = exigirVisitante(parametros);
+        Atracao atracao = exigirAtracao(parametros);
+
+        return new Resposta(200, new Json()
+                .campo("cpf", visitante.getCpf())
+                .campo("atracao", atracao.getNome())
+                .campo("tempoEsperaMinutos", this.sistema.estimarTempoEspera(visitante, atracao)));
+    }
+
+    private Resposta processarSessao(Map<String, String> parametros) {
+        Atracao atracao = exigirAtracao(parametros);
+
+        List<Visitante> atendidos = this.sistema.processarProximaSessao(atracao);
+
+        StringBuilder cpfs = new StringBuilder("[");
+        for (int i = 0; i < atendidos.size(); i++) {
+            if (i > 0) {
+                cpfs.append(',');
+            }
+            TextoJson.escrever(cpfs, atendidos.get(i).getCpf());
+        }
+        cpfs.append(']');
+
+        return new Resposta(200, new Json()
+                .campo("atracao", atracao.getNome())
+                .campo("atendidos", atendidos.size())
+                .campoBruto("cpfs", cpfs));
+    }
+
+    private Visitante exigirVisitante(Map<String, String> parametros) {
+        Visitante visitante = this.sistema.buscarVisitante(exigirParametro(parametros, "cpf"));
+        if (visitante == null) {
+            throw new ErroHttp(404, "Visitante não encontrado");
+        }
+        return visitante;
+    }
+
+    private Atracao exigirAtracao(Map<String, String> parametros) {
+        Atracao atracao = this.sistema.buscarAtracao(exigirParametro(parametros, "atracao"));
+        if (atracao == null) {
+            throw new ErroHttp(404, "Atração não encontrada");
+        }
+        return atracao;
+    }
+
+    private static String exigirParametro(Map<String, String> parametros, String nome) {
+        String valor = parametros.get(nome);
+        if (valor == null || valor.isBlank()) {
+            throw new ErroHttp(400, "Parâmetro obrigatório: " + nome);
+        }
+        return valor;
+    }
+
+    // ========== INFRAESTRUTURA HTTP ==========
+
+    private HttpHandler tratar(String metodo, Endpoint endpoint) {
+        return exchange -> {
+            Resposta resposta;
+
+            try {
+                if (!metodo.equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", metodo);
+                    resposta = erro(405, "Método não permitido");
+                } else {
+                    resposta = endpoint.executar(lerParametros(exchange));
+                }
+            } catch (ErroHttp e) {
+                resposta = erro(e.status, e.getMessage());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Regras de negócio do SistemaParque (fila duplicada, idade mínima, etc.)
+                resposta = erro(409, e.getMessage());
+            } catch (RuntimeException e) {
+                LOG.log(System.Logger.Level.ERROR, "Erro interno em " + metodo + " " + exchange.getRequestURI().getPath(), e);
+                resposta = erro(500, "Erro interno");
+            }
+
+            enviar(exchange, resposta);
+        };
+    }
+
+    private static Map<String, String> lerParametros(HttpExchange exchange) throws IOException {
+        Map<String, String> parametros = new HashMap<>();
+        decodificar(exchange.getRequestURI().getRawQuery(), parametros);
+
+        String tipo = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (tipo != null && tipo.startsWith("application/x-www-form-urlencoded")) {
+            try (InputStream corpo = exchange.getRequestBody()) {
+                decodificar(new String(corpo.readAllBytes(), StandardCharsets.UTF_8), parametros);
+            }
+        }
+
+        return parametros;
+    }
+
+    private static void decodificar(String dados, Map<String, String> parametros) {
+        if (dados == null || dados.isEmpty()) {
+            return;
+        }
+
+        for (String par : dados.split("&")) {
+            int igual = par.indexOf('=');
+            String nome = igual >= 0 ? par.substring(0, igual) : par;
+            String valor = igual >= 0 ? par.substring(igual + 1) : "";
+            try {
+                parametros.put(URLDecoder.decode(nome, StandardCharsets.UTF_8),
+                        URLDecoder.decode(valor, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                // Escape '%' malformado: erro do cliente, não regra de negócio
+                throw new ErroHttp(400, "Parâmetro mal codificado: " + par);
+            }
+        }
+    }
+
+    private static void enviar(HttpExchange exchange, Resposta resposta) throws IOException {
+        byte[] corpo = resposta.corpo.toString().getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(resposta.status, corpo.length);
+        try (OutputStream saida = exchange.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+
+    private static Resposta erro(int status, String mensagem) {
+        return new Resposta(status, new Json().campo("erro", mensagem));
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        Resposta executar(Map<String, String> parametros);
+    }
+
+    private static final class Resposta {
+        private final int status;
+        private final Json corpo;
+
+        private Resposta(int status, Json corpo) {
+            this.status = status;
+            this.corpo = corpo;
+        }
+    }
+
+    // Erro da própria requisição (parâmetro ausente, recurso inexistente), com o status a devolver
+    private static final class ErroHttp extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        private ErroHttp(int status, String mensagem) {
+            super(mensagem);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Monta um objeto JSON simples, sem dependências externas
+     */
+    private static final class Json {
+        private final StringBuilder texto = new StringBuilder("{");
+
+        private Json campo(String nome, String valor) {
+            nome(nome);
+            TextoJson.escrever(this.texto, valor);
+            return this;
+        }
+
+        private Json campo(String nome, int valor) {
+            nome(nome);
+            this.texto.append(valor);
+            return this;
+        }
+
+        private Json campoBruto(String nome, CharSequence json) {
+            nome(nome);
+            this.texto.append(json);
+            return this;
+        }
+
+        private void nome(String nome) {
+            if (this.texto.length() > 1) {
+                this.texto.append(',');
+            }
+            TextoJson.escrever(this.texto, nome);
+            this.texto.append(':');
+        }
+
+        @Override
+        public String toString() {
+            return this.texto + "}";
+        }
+    }
+
+    /**
+     * Inicia o servidor. Argumentos opcionais: porta e endereço de escuta
+     * (padrão 8080 em todas as interfaces).
+     *
+     * Com -Dthemepark.diario=&lt;arquivo&gt; o estado é restaurado do diário e cada
+     * operação é gravada nele; -Dthemepark.diario.fsync escolhe a política
+     * (POR_LOTE, PERIODICA ou NUNCA; padrão POR_LOTE). Com
+     * -Dthemepark.instantaneo=&lt;arquivo&gt;, a reinicialização parte do último
+     * instantâneo, gravado a cada -Dthemepark.instantaneo.intervalo segundos
+     * (padrão 300) e no encerramento.
+     */
+    public static void main(String[] args) throws IOException {
+        int porta = args.length > 0 ? Integer.parseInt(args[0]) : PORTA_PADRAO;
+        InetSocketAddress endereco = args.length > 1
+                ? new InetSocketAddress(args[1], porta)
+                : new InetSocketAddress(porta);
+
+        SistemaParque sistema = SistemaParque.getInstance();
+        DiarioOperacoes diario = abrirDiario(sistema);
+
+        ScheduledExecutorService agendador = agendarInstantaneos(diario);
+
+        ServidorParque servidor = new ServidorParque(sistema, endereco, BACKLOG_PADRAO);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.parar(1);
+            if (agendador != null) {
+                agendador.shutdownNow();
+                gravarInstantaneo(diario);
+            }
+            if (diario != null) {
+                try {
+                    diario.close();
+                } catch (IOException e) {
+                    LOG.log(System.Logger.Level.WARNING, "Erro ao fechar o diário", e);
+                }
+            }
+        }));
+        servidor.iniciar();
+
+        LOG.log(System.Logger.Level.INFO, "Servidor do parque ouvindo em {0}", servidor.getEndereco());
+    }
+
+    private static DiarioOperacoes abrirDiario(SistemaParque sistema) throws IOException {
+        String arquivo = System.getProperty("themepark.diario");
+        if (arquivo == null || arquivo.isBlank()) {
+            return null;
+        }
+
+        PoliticaFsync politica = PoliticaFsync.valueOf(System.getProperty("themepark.diario.fsync", "POR_LOTE"));
+        String instantaneo = System.getProperty("themepark.instantaneo");
+        Path arquivoInstantaneo = instantaneo == null || instantaneo.isBlank() ? null : Path.of(instantaneo);
+
+        DiarioOperacoes diario = DiarioOperacoes.abrir(sistema, Path.of(arquivo), arquivoInstantaneo,
+                ConfiguracaoLog.padrao(politica));
+
+        LOG.log(System.Logger.Level.INFO, "Diário restaurado de {0} (fsync {1})", arquivo, politica);
+        return diario;
+    }
+
+    private static ScheduledExecutorService agendarInstantaneos(DiarioOperacoes diario) {
+        String instantaneo = System.getProperty("themepark.instantaneo");
+        if (diario == null || instantaneo == null || instantaneo.isBlank()) {
+            return null;
+        }
+
+        long intervalo = Long.parseLong(System.getProperty("themepark.instantaneo.intervalo", "300"));
+        ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "instantaneo-parque");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(() -> gravarInstantaneo(diario), intervalo, intervalo, TimeUnit.SECONDS);
+        return agendador;
+    }
+
+    private static void gravarInstantaneo(DiarioOperacoes diario) {
+        try {
+            diario.gravarInstantaneo();
+        } catch (IOException | RuntimeException e) {
+            LOG.log(System.Logger.Level.WARNING, "Erro ao gravar o instantâneo", e);
+        }
+    }
+}
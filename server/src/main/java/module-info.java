@@ -0,0 +1,8 @@
+module com.themepark.server {
+    requires transitive com.themepark.core;
+
+    // Servidor HTTP embutido do JDK
+    requires jdk.httpserver;
+
+    exports com.themepark.server;
+}
@@ -105,7 +105,7 @@ public class App extends Application {
 
             // Criar alguns visitantes de exemplo
             Visitante v1 = new Visitante(
-                    "12345678901",
+                    "12345678909",
                     "15/03/1990",
                     "joao.silva@email.com",
                     "João Silva",
@@ -114,7 +114,7 @@ public class App extends Application {
             sistema.cadastrarVisitante(v1);
 
             Visitante v2 = new Visitante(
-                    "98765432109",
+                    "98765432100",
                     "20/07/1985",
                     "maria.santos@email.com",
                     "Maria Santos",
@@ -123,7 +123,7 @@ public class App extends Application {
             sistema.cadastrarVisitante(v2);
 
             Visitante v3 = new Visitante(
-                    "11122233344",
+                    "11122233396",
                     "10/12/1995",
                     "pedro.costa@email.com",
                     "Pedro Costa",
@@ -132,7 +132,7 @@ public class App extends Application {
             sistema.cadastrarVisitante(v3);
 
             Visitante v4 = new Visitante(
-                    "55566677788",
+                    "55566677720",
                     "05/05/2010",
                     "ana.oliveira@email.com",
                     "Ana Oliveira",
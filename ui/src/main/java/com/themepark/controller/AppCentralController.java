@@ -0,0 +1,340 @@
+package com.themepark.controller;
+
+import com.themepark.model.Atracao;
+import com.themepark.model.ExportadorReservas;
+import com.themepark.model.ImportadorCsv;
+import com.themepark.model.ResultadoImportacao;
+import com.themepark.model.SistemaParque;
+import com.themepark.model.StatusReserva;
+import javafx.concurrent.Task;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.DatePicker;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.MenuBar;
+import javafx.scene.control.TabPane;
+import javafx.scene.layout.GridPane;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Controller principal da aplicação. 
+ * Gerencia a view central (app-central-view.fxml) que contém as abas "Parque" e "Visitante".
+ * Lida com ações globais como Sair e abrir janelas de Cadastro.
+ */
+public class AppCentralController {
+
+    // Adicionado para permitir seleção programática da aba
+    @FXML
+    private TabPane tabPanePrincipal;
+
+    // Referência à MenuBar para obter a Stage
+    @FXML
+    private MenuBar menuBar; 
+    
+    // Referência ao FXML do Painel do Parque (fx:id="painelParque" no app-central-view.fxml)
+    @FXML
+    private MainController painelParqueController;
+    
+    // Referência ao FXML do Portal do Visitante (fx:id="portalVisitante" no app-central-view.fxml)
+    @FXML
+    private PortalVisitanteController portalVisitanteController;
+
+    // Método de inicialização (chamado após a injeção dos componentes FXML)
+    @FXML
+    public void initialize() {
+        // --- NOVO: Força a seleção do Portal do Visitante (Índice 1) ao iniciar ---
+        if (tabPanePrincipal != null && tabPanePrincipal.getTabs().size() > 1) {
+            tabPanePrincipal.getSelectionModel().select(1); // Seleciona a segunda aba (índice 1)
+            System.out.println("Tela inicial definida como: Portal do Visitante.");
+        }
+        // ------------------------------------------------------------------------
+        
+        if (painelParqueController != null) {
+            System.out.println("MainController (Painel do Parque) injetado com sucesso.");
+        }
+        if (portalVisitanteController != null) {
+            System.out.println("PortalVisitanteController (Portal) injetado com sucesso.");
+        }
+    }
+    
+    // --- Métodos de Ação do Menu Superior ---
+
+    /**
+     * Abre a janela de cadastro de uma nova Atração.
+     * Mapeado em app-central-view.fxml (Menu 'Cadastros' -> 'Nova Atração')
+     */
+    @FXML
+    private void abrirCadastroAtracao(ActionEvent event) {
+        abrirJanelaCadastro("/com/themepark/view/cadastro-atracao-view.fxml", "Cadastrar Nova Atração");
+        
+        // Após o cadastro (se for bem-sucedido), atualiza a lista de atrações no MainController
+        if (painelParqueController != null) {
+            painelParqueController.atualizarDados(); 
+        }
+    }
+
+    /**
+     * Abre a janela de cadastro de um novo Visitante.
+     * Mapeado em app-central-view.fxml (Menu 'Cadastros' -> 'Novo Visitante')
+     */
+    @FXML
+    private void abrirCadastroVisitante(ActionEvent event) {
+        abrirJanelaCadastro("/com/themepark/view/cadastro-visitante-view.fxml", "Cadastrar Novo Visitante");
+        
+        // Se houver necessidade de atualizar a lista de visitantes no portal, chame:
+        // if (portalVisitanteController != null) {
+        //     portalVisitanteController.atualizarListaVisitantes();
+        // }
+    }
+
+    /**
+     * Importa visitantes de um arquivo CSV (cabeçalho: cpf,nome,data_nascimento,email,tipo_ingresso).
+     * Mapeado em app-central-view.fxml (Menu 'Arquivo' -> 'Importar Visitantes (CSV)...')
+     */
+    @FXML
+    private void importarVisitantes(ActionEvent event) {
+        importarCsv("Importar Visitantes", (importador, arquivo) -> importador.importarVisitantes(arquivo));
+    }
+
+    /**
+     * Importa atrações de um arquivo CSV (cabeçalho: nome,tipo,capacidade,idade_minima,prioridade[,horarios]).
+     * Mapeado em app-central-view.fxml (Menu 'Arquivo' -> 'Importar Atrações (CSV)...')
+     */
+    @FXML
+    private void importarAtracoes(ActionEvent event) {
+        importarCsv("Importar Atrações", (importador, arquivo) -> importador.importarAtracoes(arquivo));
+    }
+
+    /**
+     * Exporta o histórico de reservas (com filtros opcionais) para CSV ou NDJSON, em segundo plano.
+     * Mapeado em app-central-view.fxml (Menu 'Arquivo' -> 'Exportar Reservas...')
+     */
+    @FXML
+    private void exportarReservas(ActionEvent event) {
+        Optional<ExportadorReservas.Filtro> filtro = escolherFiltroExportacao();
+        if (filtro.isEmpty()) {
+            return;
+        }
+
+        FileChooser seletor = new FileChooser();
+        seletor.setTitle("Exportar Reservas");
+        seletor.setInitialFileName("reservas.csv");
+        seletor.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV", "*.csv"),
+                new FileChooser.ExtensionFilter("NDJSON (um JSON por linha)", "*.ndjson"));
+
+        File arquivo = seletor.showSaveDialog(obterJanela());
+        if (arquivo == null) {
+            return;
+        }
+
+        ExportadorReservas.Formato formato = arquivo.getName().toLowerCase(Locale.ROOT).endsWith(".ndjson")
+                ? ExportadorReservas.Formato.NDJSON
+                : ExportadorReservas.Formato.CSV;
+        ExportadorReservas exportador = new ExportadorReservas(formato, filtro.get());
+
+        Task<Long> tarefa = new Task<>() {
+            @Override
+            protected Long call() throws Exception {
+                return exportador.exportar(SistemaParque.getInstance(), arquivo.toPath());
+            }
+        };
+
+        tarefa.setOnSucceeded(e -> {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("Exportar Reservas");
+            alert.setHeaderText(null);
+            alert.setContentText(tarefa.getValue() + " reservas exportadas para " + arquivo.getName());
+            alert.showAndWait();
+        });
+        tarefa.setOnFailed(e -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Exportar Reservas");
+            alert.setHeaderText("Falha na exportação: " + arquivo.getName());
+            alert.setContentText(tarefa.getException().getMessage());
+            alert.showAndWait();
+        });
+
+        Thread thread = new Thread(tarefa, "exportacao-reservas");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Confirma e fecha a aplicação.
+     * Mapeado em app-central-view.fxml (Menu 'Arquivo' -> 'Sair')
+     */
+    @FXML
+    private void sairAplicacao(ActionEvent event) {
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("Confirmação de Saída");
+        alert.setHeaderText(null);
+        alert.setContentText("Tem certeza que deseja fechar a aplicação?");
+
+        Optional<ButtonType> result = alert.showAndWait();
+        if (result.isPresent() && result.get() == ButtonType.OK) {
+            // Obter a Stage (janela) atual a partir de qualquer componente, como a MenuBar
+            if (menuBar != null && menuBar.getScene() != null) {
+                 Stage stage = (Stage) menuBar.getScene().getWindow();
+                 stage.close();
+            } else {
+                 // Fallback: Se não conseguir a Stage pela MenuBar
+                 System.exit(0);
+            }
+        }
+    }
+    
+    // --- Métodos Utilitários ---
+    
+    /**
+     * Função auxiliar para carregar e exibir uma janela modal de cadastro.
+     * @param fxmlPath O caminho do arquivo FXML.
+     * @param title O título da janela.
+     */
+    private void abrirJanelaCadastro(String fxmlPath, String title) {
+        try {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+            Parent root = loader.load();
+            
+            Stage stage = new Stage();
+            stage.setTitle(title);
+            stage.setScene(new Scene(root));
+            stage.initModality(Modality.APPLICATION_MODAL); // Bloqueia a janela principal
+            stage.showAndWait();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            exibirAlertaErro("Erro ao carregar a tela de Cadastro: " + title + "\n" + e.getMessage());
+        }
+    }
+    
+    /**
+     * Escolhe o arquivo e roda a importação numa thread de fundo, para não travar a interface;
+     * o resumo (ou o erro) é exibido de volta na thread do JavaFX.
+     */
+    private void importarCsv(String titulo, Importacao importacao) {
+        FileChooser seletor = new FileChooser();
+        seletor.setTitle(titulo);
+        seletor.getExtensionFilters().add(new FileChooser.ExtensionFilter("Arquivos CSV", "*.csv"));
+
+        File arquivo = seletor.showOpenDialog(obterJanela());
+        if (arquivo == null) {
+            return;
+        }
+
+        Task<ResultadoImportacao> tarefa = new Task<>() {
+            @Override
+            protected ResultadoImportacao call() throws Exception {
+                return importacao.importar(new ImportadorCsv(SistemaParque.getInstance()), arquivo.toPath());
+            }
+        };
+
+        tarefa.setOnSucceeded(e -> {
+            if (painelParqueController != null) {
+                painelParqueController.atualizarDados();
+            }
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle(titulo);
+            alert.setHeaderText("Importação concluída: " + arquivo.getName());
+            alert.setContentText(tarefa.getValue().formatarResumo());
+            alert.showAndWait();
+        });
+        tarefa.setOnFailed(e -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle(titulo);
+            alert.setHeaderText("Falha na importação: " + arquivo.getName());
+            alert.setContentText(tarefa.getException().getMessage());
+            alert.showAndWait();
+        });
+
+        Thread thread = new Thread(tarefa, "importacao-csv");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Diálogo com os filtros da exportação; vazio se o usuário cancelar
+    private Optional<ExportadorReservas.Filtro> escolherFiltroExportacao() {
+        DatePicker dataInicio = new DatePicker();
+        DatePicker dataFim = new DatePicker();
+
+        ComboBox<String> atracao = new ComboBox<>();
+        atracao.getItems().add("Todas");
+        for (Atracao a : SistemaParque.getInstance().listarAtracoes()) {
+            atracao.getItems().add(a.getNome());
+        }
+        atracao.getSelectionModel().selectFirst();
+
+        ComboBox<String> status = new ComboBox<>();
+        status.getItems().add("Todos");
+        for (StatusReserva s : StatusReserva.values()) {
+            status.getItems().add(s.name());
+        }
+        status.getSelectionModel().selectFirst();
+
+        GridPane campos = new GridPane();
+        campos.setHgap(10);
+        campos.setVgap(10);
+        campos.addRow(0, new Label("Criadas a partir de:"), dataInicio);
+        campos.addRow(1, new Label("Criadas até:"), dataFim);
+        campos.addRow(2, new Label("Atração:"), atracao);
+        campos.addRow(3, new Label("Status:"), status);
+
+        Dialog<ButtonType> dialogo = new Dialog<>();
+        dialogo.setTitle("Exportar Reservas");
+        dialogo.setHeaderText("Filtros da exportação (em branco: sem filtro)");
+        dialogo.getDialogPane().setContent(campos);
+        dialogo.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        if (dialogo.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new ExportadorReservas.Filtro(
+                    dataInicio.getValue(),
+                    dataFim.getValue(),
+                    atracao.getSelectionModel().getSelectedIndex() > 0 ? atracao.getValue() : null,
+                    status.getSelectionModel().getSelectedIndex() > 0 ? StatusReserva.valueOf(status.getValue()) : null));
+        } catch (IllegalArgumentException e) {
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Exportar Reservas");
+            alert.setHeaderText(null);
+            alert.setContentText(e.getMessage());
+            alert.showAndWait();
+            return Optional.empty();
+        }
+    }
+
+    private Window obterJanela() {
+        return menuBar != null && menuBar.getScene() != null ? menuBar.getScene().getWindow() : null;
+    }
+
+    @FunctionalInterface
+    private interface Importacao {
+        ResultadoImportacao importar(ImportadorCsv importador, Path arquivo) throws IOException;
+    }
+
+    private void exibirAlertaErro(String mensagem) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Erro de Aplicação");
+        alert.setHeaderText("Falha ao Abrir Janela");
+        alert.setContentText(mensagem);
+        alert.showAndWait();
+    }
+}
\ No newline at end of file
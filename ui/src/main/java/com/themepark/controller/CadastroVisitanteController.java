@@ -99,6 +99,12 @@ public class CadastroVisitanteController {
             return false;
         }
 
+        if (!Visitante.isCpfValido(cpfNumeros)) {
+            mostrarErro("CPF Inválido", "O CPF informado não é válido.");
+            txtCpf.requestFocus();
+            return false;
+        }
+
         // Data de Nascimento
         if (dataNascimento.getValue() == null) {
             mostrarErro("Campo Obrigatório", "A data de nascimento é obrigatória.");
@@ -119,7 +125,7 @@ public class CadastroVisitanteController {
             return false;
         }
 
-        if (!txtEmail.getText().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
+        if (!Visitante.isEmailValido(txtEmail.getText())) {
             mostrarErro("Email Inválido", "Digite um email válido.");
             txtEmail.requestFocus();
             return false;
@@ -69,7 +69,7 @@ public class MainController {
         colAtracaoFila.setCellValueFactory(cellData ->
                 new javafx.beans.property.SimpleStringProperty(cellData.getValue().getAtracao().getNome()));
         colTamanhoFila.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleObjectProperty<>(cellData.getValue().getFila().getSize()));
+                new javafx.beans.property.SimpleObjectProperty<>(cellData.getValue().getTamanho()));
         colTempoEspera.setCellValueFactory(cellData ->
                 new javafx.beans.property.SimpleObjectProperty<>(cellData.getValue().getTempoEsperaMinutos()));
     }
@@ -171,7 +171,7 @@ public class MainController {
             return;
         }
 
-        if (filaSelecionada.getFila().getSize() == 0) {
+        if (filaSelecionada.getTamanho() == 0) {
             mostrarAviso("Fila vazia", "A fila selecionada está vazia.");
             return;
         }
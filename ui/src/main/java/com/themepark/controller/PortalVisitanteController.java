@@ -246,7 +246,7 @@ public class PortalVisitanteController {
         detalhes.append("Atração: ").append(atracao.getNome()).append("\n");
         detalhes.append("Sua Posição: ").append(posicao).append("\n");
         detalhes.append("Tempo Estimado: ").append(tempoEspera).append(" minutos\n");
-        detalhes.append("Tamanho da Fila: ").append(fila.getFila().getSize()).append(" pessoas\n");
+        detalhes.append("Tamanho da Fila: ").append(fila.getTamanho()).append(" pessoas\n");
         detalhes.append("Capacidade por Sessão: ").append(atracao.getCapacidadePorSessao()).append(" pessoas\n");
         detalhes.append("Duração da Sessão: ").append(atracao.getDuracaoSessaoMinutos()).append(" minutos\n");
         detalhes.append("\n═══════════════════════════════════");
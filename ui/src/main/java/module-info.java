@@ -4,6 +4,9 @@ module com.themepark.ThemeParkQueueManager {
     requires javafx.fxml;
     requires javafx.graphics; // Necessário para Stage, Scene, etc.
 
+    // Modelo do parque (módulo core, sem JavaFX)
+    requires transitive com.themepark.core;
+
     // 1. Exporta o pacote principal (onde está a classe App.java) para que o JavaFX possa iniciá-lo
     exports com.themepark;
 
@@ -14,8 +17,4 @@ module com.themepark.ThemeParkQueueManager {
     // O FXMLLoader usa reflexão (reflection) para instanciar a classe MainController
     // e injetar os elementos @FXML. Sem o 'opens', o erro de classe não encontrada pode ocorrer.
     opens com.themepark.controller to javafx.fxml;
-
-    // 4. Exporta o pacote de modelo (se você usa dados de modelo em TableViews, por exemplo)
-    exports com.themepark.model;
-    opens com.themepark.model to javafx.base; // Abre para o javafx.base para TableView PropertyValueFactory
 }
\ No newline at end of file